@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
+import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link DependencyManagementContainer#getManagedVersion} with deep
+ * configuration hierarchies.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class DependencyManagementContainerBenchmark {
+
+	private static final int MANAGED_VERSIONS_PER_CONFIGURATION = 100;
+
+	@Param({ "1", "10", "50" })
+	public int depth;
+
+	private DependencyManagementContainer container;
+
+	private Configuration leaf;
+
+	@Setup
+	public void setUp() {
+		Project project = ProjectBuilder.builder().build();
+		this.container = new DependencyManagementContainer(project, new NoOpPomResolver());
+		Configuration parent = null;
+		for (int level = 0; level < this.depth; level++) {
+			Configuration configuration = project.getConfigurations().create("configuration" + level);
+			if (parent != null) {
+				configuration.extendsFrom(parent);
+			}
+			addManagedVersions(configuration, "com.example.level" + level);
+			parent = configuration;
+		}
+		this.leaf = parent;
+		addManagedVersions(null, "com.example.global");
+	}
+
+	private void addManagedVersions(Configuration configuration, String group) {
+		for (int i = 0; i < MANAGED_VERSIONS_PER_CONFIGURATION; i++) {
+			this.container.addManagedVersion(configuration, group, "artifact" + i, "1.0." + i,
+					Collections.emptyList());
+		}
+	}
+
+	@Benchmark
+	public String managedVersionInLeafConfiguration() {
+		return this.container.getManagedVersion(this.leaf, "com.example.level" + (this.depth - 1), "artifact50");
+	}
+
+	@Benchmark
+	public String managedVersionInRootConfiguration() {
+		return this.container.getManagedVersion(this.leaf, "com.example.level0", "artifact50");
+	}
+
+	@Benchmark
+	public String managedVersionInGlobalDependencyManagement() {
+		return this.container.getManagedVersion(this.leaf, "com.example.global", "artifact50");
+	}
+
+	@Benchmark
+	public String unmanagedVersion() {
+		return this.container.getManagedVersion(this.leaf, "com.example.unmanaged", "artifact50");
+	}
+
+	private static final class NoOpPomResolver implements PomResolver {
+
+		@Override
+		public List<Pom> resolvePoms(List<PomReference> pomReferences, PropertySource properties) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<Pom> resolvePomsLeniently(List<PomReference> pomReferences) {
+			return Collections.emptyList();
+		}
+
+	}
+
+}
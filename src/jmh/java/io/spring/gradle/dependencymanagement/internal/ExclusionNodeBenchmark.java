@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import io.spring.gradle.dependencymanagement.internal.ExclusionConfiguringAction.ExclusionChain;
+import io.spring.gradle.dependencymanagement.internal.ExclusionConfiguringAction.Node;
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for checking whether a dependency is excluded by a node in the dependency
+ * graph that is walked by {@link ExclusionConfiguringAction}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class ExclusionNodeBenchmark {
+
+	@Param({ "1", "10", "100" })
+	public int exclusions;
+
+	private final ModuleKey exactMatch = ModuleKey.of("com.example.group0", "artifact0");
+
+	private final ModuleKey wildcardMatch = ModuleKey.of("com.example.wildcard", "artifact0");
+
+	private final ModuleKey noMatch = ModuleKey.of("com.example.included", "artifact0");
+
+	private Node node;
+
+	@Setup
+	public void setUp() {
+		Set<Exclusion> exclusions = new HashSet<>();
+		for (int i = 0; i < this.exclusions; i++) {
+			exclusions.add(new Exclusion("com.example.group" + i, "artifact" + i));
+		}
+		exclusions.add(new Exclusion("com.example.wildcard", "*"));
+		this.node = new Node(null, ModuleKey.of("com.example", "root"), ExclusionChain.EMPTY.with(exclusions));
+	}
+
+	@Benchmark
+	public boolean excludedByExactMatch() {
+		return this.node.excluded(this.exactMatch);
+	}
+
+	@Benchmark
+	public boolean excludedByWildcard() {
+		return this.node.excluded(this.wildcardMatch);
+	}
+
+	@Benchmark
+	public boolean notExcluded() {
+		return this.node.excluded(this.noMatch);
+	}
+
+}
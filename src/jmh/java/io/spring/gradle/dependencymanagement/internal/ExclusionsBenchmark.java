@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for merging {@link Exclusions}, as happens when the exclusions of a
+ * configuration's hierarchy are flattened.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class ExclusionsBenchmark {
+
+	private static final int EXCLUSIONS_PER_DEPENDENCY = 5;
+
+	@Param({ "100", "1000" })
+	public int dependencies;
+
+	@Param({ "2", "10" })
+	public int sources;
+
+	private final List<Exclusions> exclusions = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+		for (int source = 0; source < this.sources; source++) {
+			Exclusions exclusions = new Exclusions();
+			for (int dependency = 0; dependency < this.dependencies; dependency++) {
+				List<Exclusion> exclusionsForDependency = new ArrayList<>();
+				for (int i = 0; i < EXCLUSIONS_PER_DEPENDENCY; i++) {
+					exclusionsForDependency.add(new Exclusion("com.example.excluded" + source, "artifact" + i));
+				}
+				exclusions.add(ModuleKey.of("com.example", "artifact" + dependency), exclusionsForDependency);
+			}
+			this.exclusions.add(exclusions);
+		}
+	}
+
+	@Benchmark
+	public Exclusions merge() {
+		Exclusions merged = new Exclusions();
+		for (Exclusions exclusions : this.exclusions) {
+			merged.addAll(exclusions);
+		}
+		return merged;
+	}
+
+	@Benchmark
+	public Exclusions mergeAndCopy() {
+		return merge().unmodifiableCopy();
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.gradle.dependencymanagement.internal.maven.CompactPomFormat.Input;
+import io.spring.gradle.dependencymanagement.internal.maven.CompactPomFormat.Output;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for reading and writing a large synthetic bom using the
+ * {@link CompactPomFormat}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class CompactPomFormatBenchmark {
+
+	@Param({ "100", "2000" })
+	public int managedDependencies;
+
+	private Pom pom;
+
+	private byte[] bytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		List<Dependency> dependencies = new ArrayList<>();
+		Map<String, String> properties = new LinkedHashMap<>();
+		for (int i = 0; i < this.managedDependencies; i++) {
+			String groupId = "com.example.group" + (i % 50);
+			dependencies.add(new Dependency(new Coordinates(groupId, "artifact" + i, "1.0." + (i % 10)), false, "jar",
+					null, "compile", Collections.emptySet()));
+			properties.put("artifact" + i + ".version", "1.0." + (i % 10));
+		}
+		this.pom = new Pom(new Coordinates("com.example", "bom", "1.0"), dependencies, Collections.emptyList(),
+				properties);
+		this.bytes = write();
+	}
+
+	@Benchmark
+	public byte[] write() throws IOException {
+		Output output = new Output();
+		CompactPomFormat.writePom(this.pom, output);
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		output.writeTo(stream);
+		return stream.toByteArray();
+	}
+
+	@Benchmark
+	public Pom read() {
+		return CompactPomFormat.readPom(Input.of(ByteBuffer.wrap(this.bytes)));
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Model;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for {@link EffectiveModelBuilder#buildModels} with a large synthetic bom.
+ * The bom, its parent, and the bom that it imports are generated in a local Maven
+ * repository so that the benchmark can be run offline. The poms are resolved once, during
+ * setup. {@link #buildModels} then reuses a model builder and its cache of raw models
+ * while {@link #buildModelsWithColdCache} uses a new model builder for each invocation
+ * as happens in the first build of a project.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class EffectiveModelBuilderBenchmark {
+
+	@Param({ "100", "1000" })
+	public int managedDependencies;
+
+	private Path directory;
+
+	private ConfigurationModelResolver modelResolver;
+
+	private EffectiveModelBuilder modelBuilder;
+
+	private File bom;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("effective-model-builder-benchmark");
+		Path repository = this.directory.resolve("repository");
+		writePom(repository, "bom-parent", createParentPom());
+		this.bom = writePom(repository, "bom", createBom());
+		writePom(repository, "imported-bom", createImportedBom());
+		Project project = ProjectBuilder.builder().withProjectDir(this.directory.resolve("project").toFile()).build();
+		project.getRepositories().maven((maven) -> maven.setUrl(repository.toUri()));
+		this.modelResolver = new ConfigurationModelResolver(project,
+				new DependencyManagementConfigurationContainer(project));
+		this.modelBuilder = new EffectiveModelBuilder(this.modelResolver);
+		buildModels();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(this.directory)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public Map<ModelInput, Model> buildModels() {
+		return this.modelBuilder.buildModels(Collections.singletonList(createInput()), null);
+	}
+
+	@Benchmark
+	public Map<ModelInput, Model> buildModelsWithColdCache() {
+		return new EffectiveModelBuilder(this.modelResolver).buildModels(Collections.singletonList(createInput()),
+				null);
+	}
+
+	private ModelInput createInput() {
+		return new ModelInput(new Coordinates("com.example", "bom", "1.0"), this.bom, (name) -> null,
+				System.getProperties());
+	}
+
+	private String createParentPom() {
+		StringBuilder properties = new StringBuilder();
+		for (int i = 0; i < this.managedDependencies; i++) {
+			properties.append("<artifact").append(i).append(".version>1.0.").append(i);
+			properties.append("</artifact").append(i).append(".version>\n");
+		}
+		return pom("bom-parent", "", "<properties>" + properties + "</properties>");
+	}
+
+	private String createBom() {
+		StringBuilder dependencies = new StringBuilder();
+		for (int i = 0; i < this.managedDependencies; i++) {
+			dependencies.append(dependency("com.example", "artifact" + i, "${artifact" + i + ".version}", ""));
+		}
+		dependencies.append(dependency("com.example", "imported-bom", "1.0", "<type>pom</type><scope>import</scope>"));
+		String parent = "<parent><groupId>com.example</groupId><artifactId>bom-parent</artifactId>"
+				+ "<version>1.0</version></parent>\n";
+		return pom("bom", parent,
+				"<dependencyManagement><dependencies>" + dependencies + "</dependencies></dependencyManagement>");
+	}
+
+	private String createImportedBom() {
+		StringBuilder dependencies = new StringBuilder();
+		for (int i = 0; i < this.managedDependencies; i++) {
+			dependencies.append(dependency("com.example.imported", "artifact" + i, "2.0." + i, ""));
+		}
+		return pom("imported-bom", "",
+				"<dependencyManagement><dependencies>" + dependencies + "</dependencies></dependencyManagement>");
+	}
+
+	private String pom(String artifactId, String parent, String content) {
+		return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project>\n<modelVersion>4.0.0</modelVersion>\n" + parent
+				+ "<groupId>com.example</groupId>\n<artifactId>" + artifactId + "</artifactId>\n"
+				+ "<version>1.0</version>\n<packaging>pom</packaging>\n" + content + "</project>\n";
+	}
+
+	private String dependency(String groupId, String artifactId, String version, String extra) {
+		return "<dependency><groupId>" + groupId + "</groupId><artifactId>" + artifactId + "</artifactId><version>"
+				+ version + "</version>" + extra + "</dependency>\n";
+	}
+
+	private File writePom(Path repository, String artifactId, String pom) throws IOException {
+		Path location = repository.resolve("com/example/" + artifactId + "/1.0/" + artifactId + "-1.0.pom");
+		Files.createDirectories(location.getParent());
+		Files.write(location, pom.getBytes(StandardCharsets.UTF_8));
+		return location.toFile();
+	}
+
+}
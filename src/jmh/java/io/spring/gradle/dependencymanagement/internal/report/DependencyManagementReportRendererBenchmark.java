@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.report;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for the sorting of managed versions by
+ * {@link DependencyManagementReportRenderer}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+public class DependencyManagementReportRendererBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	public int managedVersions;
+
+	private final Map<String, String> versions = new HashMap<>();
+
+	private final DependencyManagementReportRenderer renderer = new DependencyManagementReportRenderer(
+			new PrintWriter(new DiscardingWriter()));
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < this.managedVersions; i++) {
+			this.versions.put("com.example.group" + (i % 50) + ":artifact" + i, "1.0." + i);
+		}
+	}
+
+	@Benchmark
+	public void renderGlobalManagedVersions() {
+		this.renderer.renderGlobalManagedVersions(this.versions);
+	}
+
+	private static final class DiscardingWriter extends Writer {
+
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -84,6 +84,64 @@ public interface DependencyManagementExtension extends DependencyManagementHandl
 	 */
 	void applyMavenExclusions(boolean applyMavenExclusions);
 
+	/**
+	 * Set whether or not Maven-style exclusions should be applied natively as part of
+	 * Gradle's dependency resolution rather than by analyzing a separate resolution of
+	 * each configuration. Applying exclusions natively is faster but does not fully honor
+	 * Maven's semantics. The default is {@code false}.
+	 * @param applyMavenExclusionsNatively {@code true} if Maven-style exclusions should be
+	 * applied natively, otherwise {@code false}
+	 */
+	void setApplyMavenExclusionsNatively(boolean applyMavenExclusionsNatively);
+
+	/**
+	 * Set whether or not Maven-style exclusions should be applied natively as part of
+	 * Gradle's dependency resolution rather than by analyzing a separate resolution of
+	 * each configuration. Applying exclusions natively is faster but does not fully honor
+	 * Maven's semantics. The default is {@code false}.
+	 * @param applyMavenExclusionsNatively {@code true} if Maven-style exclusions should be
+	 * applied natively, otherwise {@code false}
+	 */
+	void applyMavenExclusionsNatively(boolean applyMavenExclusionsNatively);
+
+	/**
+	 * Set whether or not managed versions should be applied as strict dependency
+	 * constraints that are added to a configuration once before it is resolved, rather
+	 * than by a callback that Gradle calls for every dependency in the graph. Applying
+	 * managed versions as constraints is faster for large dependency graphs. The default
+	 * is {@code false}.
+	 * @param applyManagedVersionsAsConstraints {@code true} if managed versions should be
+	 * applied as constraints, otherwise {@code false}
+	 */
+	void setApplyManagedVersionsAsConstraints(boolean applyManagedVersionsAsConstraints);
+
+	/**
+	 * Set whether or not managed versions should be applied as strict dependency
+	 * constraints that are added to a configuration once before it is resolved, rather
+	 * than by a callback that Gradle calls for every dependency in the graph. Applying
+	 * managed versions as constraints is faster for large dependency graphs. The default
+	 * is {@code false}.
+	 * @param applyManagedVersionsAsConstraints {@code true} if managed versions should be
+	 * applied as constraints, otherwise {@code false}
+	 */
+	void applyManagedVersionsAsConstraints(boolean applyManagedVersionsAsConstraints);
+
+	/**
+	 * Set whether or not the effective models of imported Maven boms should be built in
+	 * parallel. The default is {@code false}.
+	 * @param parallelModelBuilding {@code true} if models should be built in parallel,
+	 * otherwise {@code false}
+	 */
+	void setParallelModelBuilding(boolean parallelModelBuilding);
+
+	/**
+	 * Set whether or not the effective models of imported Maven boms should be built in
+	 * parallel. The default is {@code false}.
+	 * @param parallelModelBuilding {@code true} if models should be built in parallel,
+	 * otherwise {@code false}
+	 */
+	void parallelModelBuilding(boolean parallelModelBuilding);
+
 	/**
 	 * Set whether dependency management should be overridden by versions declared on a
 	 * project's dependencies. The default is {@code true}.
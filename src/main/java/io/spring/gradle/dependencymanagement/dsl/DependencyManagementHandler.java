@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package io.spring.gradle.dependencymanagement.dsl;
 
 import java.util.Map;
 
+import org.gradle.api.provider.Provider;
+
 /**
  * A handler for configuring and accessing dependency management.
  *
@@ -40,4 +42,39 @@ public interface DependencyManagementHandler extends DependencyManagementConfigu
 	 */
 	Map<String, String> getManagedVersions();
 
+	/**
+	 * Returns a provider of the properties from any imported boms. Unlike
+	 * {@link #getImportedProperties()}, the boms are not resolved until the provider is
+	 * queried. The default implementation throws an
+	 * {@link UnsupportedOperationException}.
+	 * @return a provider of the imported properties
+	 */
+	default Provider<Map<String, String>> getImportedPropertiesProvider() {
+		throw new UnsupportedOperationException("getImportedPropertiesProvider is not supported");
+	}
+
+	/**
+	 * Returns a provider of the managed versions for the configuration associated with
+	 * this handler. Unlike {@link #getManagedVersions()}, the boms are not resolved until
+	 * the provider is queried. The default implementation throws an
+	 * {@link UnsupportedOperationException}.
+	 * @return a provider of the managed versions
+	 */
+	default Provider<Map<String, String>> getManagedVersionsProvider() {
+		throw new UnsupportedOperationException("getManagedVersionsProvider is not supported");
+	}
+
+	/**
+	 * Returns a provider of the managed version of the dependency with the given
+	 * {@code group} and {@code name}. The provider has no value if the dependency's
+	 * version is not managed. The boms are not resolved until the provider is queried.
+	 * The default implementation throws an {@link UnsupportedOperationException}.
+	 * @param group the dependency's group
+	 * @param name the dependency's name
+	 * @return a provider of the managed version
+	 */
+	default Provider<String> managedVersion(String group, String name) {
+		throw new UnsupportedOperationException("managedVersion is not supported");
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2023 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +22,13 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
 import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
 import io.spring.gradle.dependencymanagement.internal.pom.Pom;
 import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
 import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
@@ -39,6 +43,13 @@ import org.slf4j.LoggerFactory;
 /**
  * Encapsulates dependency management information for a particular configuration in a
  * Gradle project.
+ * <p>
+ * Dependency management may be used by several threads at once when configurations are
+ * resolved in parallel. Modifications are made while holding this object's monitor. The
+ * imported boms are resolved exactly once, without holding the monitor, with other
+ * threads waiting for their resolution to complete. The resolved boms are then applied
+ * while holding the monitor. Once resolved, managed versions are read from an
+ * unmodifiable snapshot without locking.
  *
  * @author Andy Wilkinson
  */
@@ -52,11 +63,19 @@ public class DependencyManagement {
 
 	private final PomResolver pomResolver;
 
-	private boolean resolved;
+	private volatile boolean resolved;
 
-	private final Map<String, String> versions = new HashMap<>();
+	private FutureTask<List<Pom>> bomResolution;
 
-	private final Map<String, String> explicitVersions = new HashMap<>();
+	private Thread bomResolutionThread;
+
+	private volatile int modificationCount;
+
+	private Map<String, String> versions = new HashMap<>();
+
+	private volatile Map<String, String> sharedVersions;
+
+	private final Map<ModuleKey, String> explicitVersions = new HashMap<>();
 
 	private final Exclusions explicitExclusions = new Exclusions();
 
@@ -64,7 +83,7 @@ public class DependencyManagement {
 
 	private final Map<String, String> bomProperties = new HashMap<>();
 
-	private final List<PomReference> importedBoms = new ArrayList<>();
+	private final List<PomReference> importedBoms = new CopyOnWriteArrayList<>();
 
 	DependencyManagement(Project project, PomResolver pomResolver) {
 		this(project, null, pomResolver);
@@ -76,8 +95,9 @@ public class DependencyManagement {
 		this.targetConfiguration = targetConfiguration;
 	}
 
-	void importBom(Coordinates coordinates, PropertySource properties) {
+	synchronized void importBom(Coordinates coordinates, PropertySource properties) {
 		this.importedBoms.add(new PomReference(coordinates, properties));
+		this.modificationCount++;
 	}
 
 	List<PomReference> getImportedBomReferences() {
@@ -89,12 +109,13 @@ public class DependencyManagement {
 		return this.bomProperties;
 	}
 
-	void addImplicitManagedVersion(String group, String name, String version) {
-		this.versions.put(createKey(group, name), version);
+	synchronized void addImplicitManagedVersion(String group, String name, String version) {
+		modifiableVersions().put(createKey(group, name), version);
+		this.modificationCount++;
 	}
 
-	void addExplicitManagedVersion(String group, String name, String version, List<Exclusion> exclusions) {
-		String key = createKey(group, name);
+	synchronized void addExplicitManagedVersion(String group, String name, String version, List<Exclusion> exclusions) {
+		ModuleKey key = ModuleKey.of(group, name);
 		this.explicitVersions.put(key, version);
 		this.explicitExclusions.add(key, exclusions);
 		this.allExclusions.add(key, exclusions);
@@ -102,13 +123,35 @@ public class DependencyManagement {
 	}
 
 	String getManagedVersion(String group, String name) {
-		resolveIfNecessary();
-		return this.versions.get(createKey(group, name));
+		return getManagedVersions().get(createKey(group, name));
 	}
 
+	/**
+	 * Returns an unmodifiable snapshot of the managed versions. The snapshot is shared
+	 * until this dependency management is next modified, at which point its versions are
+	 * copied so that the snapshot is unaffected.
+	 * @return the managed versions
+	 */
 	Map<String, String> getManagedVersions() {
 		resolveIfNecessary();
-		return new HashMap<>(this.versions);
+		Map<String, String> sharedVersions = this.sharedVersions;
+		if (sharedVersions == null) {
+			synchronized (this) {
+				if (this.sharedVersions == null) {
+					this.sharedVersions = Collections.unmodifiableMap(this.versions);
+				}
+				sharedVersions = this.sharedVersions;
+			}
+		}
+		return sharedVersions;
+	}
+
+	private Map<String, String> modifiableVersions() {
+		if (this.sharedVersions != null) {
+			this.versions = new HashMap<>(this.versions);
+			this.sharedVersions = null;
+		}
+		return this.versions;
 	}
 
 	/**
@@ -117,10 +160,10 @@ public class DependencyManagement {
 	 */
 	public List<Dependency> getManagedDependencies() {
 		List<Dependency> managedDependencies = new ArrayList<>();
-		for (Map.Entry<String, String> entry : this.explicitVersions.entrySet()) {
-			String[] components = entry.getKey().split(":");
-			managedDependencies.add(new Dependency(new Coordinates(components[0], components[1], entry.getValue()),
-					this.explicitExclusions.exclusionsForDependency(entry.getKey())));
+		for (Map.Entry<ModuleKey, String> entry : this.explicitVersions.entrySet()) {
+			ModuleKey key = entry.getKey();
+			managedDependencies.add(new Dependency(new Coordinates(key.getGroup(), key.getName(), entry.getValue()),
+					this.explicitExclusions.exclusionsForDependency(key)));
 		}
 		return managedDependencies;
 	}
@@ -134,16 +177,59 @@ public class DependencyManagement {
 		return this.allExclusions;
 	}
 
+	/**
+	 * Returns the number of times that this dependency management has been modified,
+	 * either directly or by the resolution of its imported boms. Callers that derive state
+	 * from this dependency management can use the count to detect that the state is
+	 * stale.
+	 * @return the modification count
+	 */
+	int getModificationCount() {
+		return this.modificationCount;
+	}
+
 	private void resolveIfNecessary() {
-		if (this.importedBoms.isEmpty() || this.resolved) {
+		if (this.resolved || this.importedBoms.isEmpty()) {
 			return;
 		}
+		FutureTask<List<Pom>> bomResolution;
+		boolean resolveBoms = false;
+		synchronized (this) {
+			if (this.resolved || this.bomResolutionThread == Thread.currentThread()) {
+				return;
+			}
+			if (this.bomResolution == null) {
+				this.bomResolution = new FutureTask<>(this::resolveBoms);
+				this.bomResolutionThread = Thread.currentThread();
+				resolveBoms = true;
+			}
+			bomResolution = this.bomResolution;
+		}
+		if (resolveBoms) {
+			try {
+				bomResolution.run();
+			}
+			finally {
+				synchronized (this) {
+					this.bomResolutionThread = null;
+				}
+			}
+		}
+		applyResolvedBoms(getResolvedBoms(bomResolution));
+	}
+
+	private List<Pom> getResolvedBoms(FutureTask<List<Pom>> bomResolution) {
 		try {
-			this.resolved = true;
-			resolve();
+			return bomResolution.get();
 		}
-		catch (Exception ex) {
-			throw new GradleException("Failed to resolve imported Maven boms: " + getRootCause(ex).getMessage(), ex);
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new GradleException("Interrupted while waiting for imported Maven boms to be resolved", ex);
+		}
+		catch (ExecutionException ex) {
+			this.resolved = true;
+			throw new GradleException("Failed to resolve imported Maven boms: " + getRootCause(ex).getMessage(),
+					ex.getCause());
 		}
 	}
 
@@ -155,7 +241,7 @@ public class DependencyManagement {
 		return candidate;
 	}
 
-	private void resolve() {
+	private List<Pom> resolveBoms() {
 		String projectName = this.project.getName();
 		if (this.targetConfiguration != null) {
 			logger.info("Resolving dependency management for configuration '{}' of project '{}'",
@@ -164,17 +250,25 @@ public class DependencyManagement {
 		else {
 			logger.info("Resolving global dependency management for project '{}'", projectName);
 		}
+		return this.pomResolver.resolvePoms(new ArrayList<>(this.importedBoms),
+				new ProjectPropertySource(this.project));
+	}
+
+	private synchronized void applyResolvedBoms(List<Pom> resolvedBoms) {
+		if (this.resolved) {
+			return;
+		}
 		Map<String, String> existingVersions = new LinkedHashMap<>(this.versions);
 		logger.debug("Preserving existing versions: {}", existingVersions);
-		List<Pom> resolvedBoms = this.pomResolver.resolvePoms(this.importedBoms,
-				new ProjectPropertySource(this.project));
 		for (Pom resolvedBom : resolvedBoms) {
 			for (Dependency dependency : resolvedBom.getManagedDependencies()) {
 				resolve(resolvedBom, dependency);
 			}
 			this.bomProperties.putAll(resolvedBom.getProperties());
 		}
-		this.versions.putAll(existingVersions);
+		modifiableVersions().putAll(existingVersions);
+		this.modificationCount++;
+		this.resolved = true;
 	}
 
 	private void resolve(Pom resolvedBom, Dependency dependency) {
@@ -185,8 +279,8 @@ public class DependencyManagement {
 						coordinates.getGroupAndArtifactId(), resolvedBom.getCoordinates());
 				return;
 			}
-			this.versions.put(coordinates.getGroupAndArtifactId(), coordinates.getVersion());
-			this.allExclusions.add(coordinates.getGroupAndArtifactId(), dependency.getExclusions());
+			modifiableVersions().put(coordinates.getGroupAndArtifactId(), coordinates.getVersion());
+			this.allExclusions.add(coordinates.getModuleKey(), dependency.getExclusions());
 		}
 	}
 
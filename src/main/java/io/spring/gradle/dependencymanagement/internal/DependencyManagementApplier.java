@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,10 @@ public class DependencyManagementApplier implements Action<Configuration> {
 
 	private final Project project;
 
+	private final SharedExclusionsCache exclusionsCache;
+
+	private final PersistentExclusionsCache persistentExclusionsCache;
+
 	private final ExclusionResolver exclusionResolver;
 
 	private final DependencyManagementContainer dependencyManagementContainer;
@@ -43,6 +47,8 @@ public class DependencyManagementApplier implements Action<Configuration> {
 
 	private final DependencyManagementSettings dependencyManagementSettings;
 
+	private volatile boolean managedExclusionsAppliedNatively;
+
 	/**
 	 * Creates a new {@code DependencyManagementApplier} that will apply dependency
 	 * management to the given {@code project}.
@@ -60,10 +66,25 @@ public class DependencyManagementApplier implements Action<Configuration> {
 			DependencyManagementConfigurationContainer configurationContainer,
 			DependencyManagementSettings dependencyManagementSettings, PomResolver pomResolver) {
 		this.project = project;
-		this.exclusionResolver = new ExclusionResolver(pomResolver);
+		this.exclusionsCache = SharedExclusionsCache.of(project);
+		this.persistentExclusionsCache = new PersistentExclusionsCache(
+				PersistentExclusionsCache.getCacheDirectory(project),
+				project.getGradle().getStartParameter().isRefreshDependencies());
+		this.exclusionResolver = new ExclusionResolver(pomResolver, this.exclusionsCache);
 		this.dependencyManagementContainer = dependencyManagementContainer;
 		this.configurationContainer = configurationContainer;
 		this.dependencyManagementSettings = dependencyManagementSettings;
+		project.afterEvaluate(this::registerManagedExclusionsMetadataRule);
+	}
+
+	private void registerManagedExclusionsMetadataRule(Project project) {
+		if (this.dependencyManagementSettings.isApplyMavenExclusions()
+				&& this.dependencyManagementSettings.isApplyMavenExclusionsNatively()) {
+			project.getDependencies()
+				.getComponents()
+				.all(new ManagedExclusionsMetadataRule(this.dependencyManagementContainer.getExclusions(null)));
+			this.managedExclusionsAppliedNatively = true;
+		}
 	}
 
 	@Override
@@ -74,7 +95,7 @@ public class DependencyManagementApplier implements Action<Configuration> {
 			.beforeResolve((resolvableDependencies) -> this.dependencyManagementContainer
 				.getManagedVersionsForConfiguration(configuration));
 		VersionConfiguringAction versionConfiguringAction = new VersionConfiguringAction(this.project,
-				this.dependencyManagementContainer, configuration);
+				this.dependencyManagementContainer, configuration, this.dependencyManagementSettings);
 		configuration.withDependencies(configureMavenExclusions(configuration, versionConfiguringAction));
 		versionConfiguringAction.applyTo(configuration);
 	}
@@ -82,7 +103,9 @@ public class DependencyManagementApplier implements Action<Configuration> {
 	private Action<DependencySet> configureMavenExclusions(Configuration configuration,
 			VersionConfiguringAction versionConfiguringAction) {
 		return new ExclusionConfiguringAction(this.dependencyManagementSettings, this.dependencyManagementContainer,
-				this.configurationContainer, configuration, this.exclusionResolver, versionConfiguringAction::applyTo);
+				this.configurationContainer, configuration, this.exclusionsCache,
+				this.persistentExclusionsCache, this.exclusionResolver,
+				versionConfiguringAction::applyToCopy, () -> this.managedExclusionsAppliedNatively);
 	}
 
 }
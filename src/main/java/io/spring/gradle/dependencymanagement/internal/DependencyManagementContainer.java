@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,37 +17,39 @@
 package io.spring.gradle.dependencymanagement.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
 import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
 import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Container object for a Gradle build project's dependency management, handling the
- * project's global and configuration-specific dependency management.
+ * project's global and configuration-specific dependency management. The container is
+ * safe for use by multiple threads so that configurations can be resolved in parallel.
  *
  * @author Andy Wilkinson
  */
 public class DependencyManagementContainer {
 
-	private static final Logger logger = LoggerFactory.getLogger(DependencyManagementContainer.class);
-
 	private final DependencyManagement globalDependencyManagement;
 
 	private final PomResolver pomResolver;
 
 	private final Project project;
 
-	private final Map<Configuration, DependencyManagement> configurationDependencyManagement = new LinkedHashMap<>();
+	private final Map<Configuration, DependencyManagement> dependencyManagements = new ConcurrentHashMap<>();
+
+	private final Map<DependencyManagement, FlattenedExclusions> flattenedExclusions = new ConcurrentHashMap<>();
+
+	private final Map<DependencyManagement, IndexedManagedVersions> managedVersionIndexes = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@code DependencyManagementContainer} that will hold dependency
@@ -103,44 +105,74 @@ public class DependencyManagementContainer {
 	}
 
 	String getManagedVersion(Configuration configuration, String group, String name) {
-		String version = (configuration != null) ? findManagedVersion(configuration, group, name) : null;
-		if (version == null) {
-			version = this.globalDependencyManagement.getManagedVersion(group, name);
-			if (version != null) {
-				logger.debug("Found managed version '{}' for dependency '{}:{}' in global dependency management",
-						version, group, name);
-			}
-		}
-		return version;
+		return getManagedVersionIndex(configuration).getVersion(group, name);
 	}
 
-	private String findManagedVersion(Configuration source, String group, String name) {
-		for (Configuration configuration : source.getHierarchy()) {
-			String managedVersion = dependencyManagementForConfiguration(configuration).getManagedVersion(group, name);
-			if (managedVersion != null) {
-				logger.debug("Found managed version '{}' for dependency '{}:{}' in dependency management for "
-						+ "configuration '{}'", managedVersion, group, name, configuration.getName());
-				return managedVersion;
-			}
+	/**
+	 * Returns a {@link ManagedVersionIndex} of the managed versions for the given
+	 * {@code configuration}, its hierarchy, and global dependency management. The index
+	 * is reused until the dependency management for the configuration's hierarchy
+	 * changes.
+	 * @param configuration the configuration, or {@code null} for managed versions in
+	 * global dependency management
+	 * @return the index
+	 */
+	ManagedVersionIndex getManagedVersionIndex(Configuration configuration) {
+		List<DependencyManagement> hierarchy = getDependencyManagementHierarchy(configuration);
+		DependencyManagement dependencyManagement = hierarchy.get(0);
+		IndexedManagedVersions indexed = this.managedVersionIndexes.get(dependencyManagement);
+		if (indexed == null || !indexed.state.isCurrent(hierarchy)) {
+			indexed = new IndexedManagedVersions(hierarchy);
+			this.managedVersionIndexes.put(dependencyManagement, indexed);
 		}
-		return null;
+		return indexed.index;
 	}
 
 	/**
 	 * Returns the {@link Exclusions} that have been configured for the given
-	 * {@code configuration}.
+	 * {@code configuration}, its hierarchy, and in global dependency management. The
+	 * returned exclusions are unmodifiable and are reused until the dependency management
+	 * for the configuration's hierarchy changes.
 	 * @param configuration the configuration
 	 * @return the exclusions
 	 */
 	public Exclusions getExclusions(Configuration configuration) {
-		Exclusions exclusions = new Exclusions();
+		List<DependencyManagement> hierarchy = getDependencyManagementHierarchy(configuration);
+		DependencyManagement dependencyManagement = hierarchy.get(0);
+		FlattenedExclusions exclusions = this.flattenedExclusions.get(dependencyManagement);
+		if (exclusions == null || !exclusions.state.isCurrent(hierarchy)) {
+			exclusions = new FlattenedExclusions(hierarchy);
+			this.flattenedExclusions.put(dependencyManagement, exclusions);
+		}
+		return exclusions.exclusions;
+	}
+
+	private List<DependencyManagement> getDependencyManagementHierarchy(Configuration configuration) {
+		List<DependencyManagement> hierarchy = new ArrayList<>();
 		if (configuration != null) {
 			for (Configuration inHierarchy : configuration.getHierarchy()) {
-				exclusions.addAll(dependencyManagementForConfiguration(inHierarchy).getExclusions());
+				hierarchy.add(dependencyManagementForConfiguration(inHierarchy));
+			}
+		}
+		hierarchy.add(this.globalDependencyManagement);
+		return hierarchy;
+	}
+
+	/**
+	 * Returns whether any exclusions have been configured specifically for the given
+	 * {@code configuration} or its hierarchy, as opposed to in global dependency
+	 * management.
+	 * @param configuration the configuration
+	 * @return {@code true} if there are configuration-specific exclusions, otherwise
+	 * {@code false}
+	 */
+	boolean hasConfigurationSpecificExclusions(Configuration configuration) {
+		for (Configuration inHierarchy : configuration.getHierarchy()) {
+			if (!dependencyManagementForConfiguration(inHierarchy).getExclusions().isEmpty()) {
+				return true;
 			}
 		}
-		exclusions.addAll(this.globalDependencyManagement.getExclusions());
-		return exclusions;
+		return false;
 	}
 
 	/**
@@ -161,7 +193,8 @@ public class DependencyManagementContainer {
 
 	/**
 	 * Returns the managed versions for the given {@code configuration} and its hierarchy.
-	 * The returned map contains keys of the form {@code groupId:artifactId}.
+	 * The returned map contains keys of the form {@code groupId:artifactId} and is
+	 * unmodifiable.
 	 * @param configuration the configuration, or {@code null} for managed versions in
 	 * global dependency management
 	 * @return the managed versions for the configuration
@@ -174,7 +207,8 @@ public class DependencyManagementContainer {
 	 * Returns the managed versions for the given {@code configuration}. The returned map
 	 * contains keys of the form {@code groupId:artifactId}. If {@code inherited} is true,
 	 * managed versions for the entire {@link Configuration#getHierarchy() configuration
-	 * hierarchy} are returned.
+	 * hierarchy} are returned. The returned map is an unmodifiable snapshot that does not
+	 * copy the managed versions of each level of the hierarchy unless it is iterated.
 	 * @param configuration the configuration, or {@code null} for managed versions in
 	 * global dependency management
 	 * @param inherited true if managed versions inherited from the configuration
@@ -182,18 +216,28 @@ public class DependencyManagementContainer {
 	 * @return the managed versions for the configuration
 	 */
 	public Map<String, String> getManagedVersionsForConfiguration(Configuration configuration, boolean inherited) {
-		if (inherited) {
-			Map<String, String> managedVersions = dependencyManagementForConfiguration(null).getManagedVersions();
-			if (configuration != null) {
-				for (Configuration inHierarchy : getReversedHierarchy(configuration)) {
-					managedVersions.putAll(dependencyManagementForConfiguration(inHierarchy).getManagedVersions());
-				}
+		if (inherited && configuration != null) {
+			List<Map<String, String>> layers = new ArrayList<>();
+			layers.add(this.globalDependencyManagement.getManagedVersions());
+			for (Configuration inHierarchy : getReversedHierarchy(configuration)) {
+				layers.add(0, dependencyManagementForConfiguration(inHierarchy).getManagedVersions());
 			}
-			return managedVersions;
+			return new LayeredManagedVersions(layers);
 		}
 		return dependencyManagementForConfiguration(configuration).getManagedVersions();
 	}
 
+	/**
+	 * Returns a {@link DependencyManagementSnapshot snapshot} of the managed versions of
+	 * the given {@code configuration} and its hierarchy.
+	 * @param configuration the configuration, or {@code null} for a snapshot of global
+	 * dependency management
+	 * @return the snapshot
+	 */
+	public DependencyManagementSnapshot getSnapshot(Configuration configuration) {
+		return new DependencyManagementSnapshot(getManagedVersionsForConfiguration(configuration));
+	}
+
 	private List<Configuration> getReversedHierarchy(Configuration configuration) {
 		List<Configuration> hierarchy = new ArrayList<>(configuration.getHierarchy());
 		Collections.reverse(hierarchy);
@@ -204,12 +248,12 @@ public class DependencyManagementContainer {
 		if (configuration == null) {
 			return this.globalDependencyManagement;
 		}
-		DependencyManagement dependencyManagement = this.configurationDependencyManagement.get(configuration);
-		if (dependencyManagement == null) {
-			dependencyManagement = new DependencyManagement(this.project, configuration, this.pomResolver);
-			this.configurationDependencyManagement.put(configuration, dependencyManagement);
+		DependencyManagement dependencyManagement = this.dependencyManagements.get(configuration);
+		if (dependencyManagement != null) {
+			return dependencyManagement;
 		}
-		return dependencyManagement;
+		return this.dependencyManagements.computeIfAbsent(configuration,
+				(key) -> new DependencyManagement(this.project, key, this.pomResolver));
 	}
 
 	/**
@@ -220,4 +264,75 @@ public class DependencyManagementContainer {
 		return this.globalDependencyManagement;
 	}
 
+	/**
+	 * The {@link Exclusions} of a configuration hierarchy, flattened into a single
+	 * unmodifiable instance.
+	 */
+	private static final class FlattenedExclusions {
+
+		private final Exclusions exclusions;
+
+		private final HierarchyState state;
+
+		private FlattenedExclusions(List<DependencyManagement> hierarchy) {
+			Exclusions exclusions = new Exclusions();
+			for (DependencyManagement dependencyManagement : hierarchy) {
+				exclusions.addAll(dependencyManagement.getExclusions());
+			}
+			this.exclusions = exclusions.unmodifiableCopy();
+			this.state = new HierarchyState(hierarchy);
+		}
+
+	}
+
+	/**
+	 * The {@link ManagedVersionIndex} of a configuration hierarchy.
+	 */
+	private static final class IndexedManagedVersions {
+
+		private final ManagedVersionIndex index;
+
+		private final HierarchyState state;
+
+		private IndexedManagedVersions(List<DependencyManagement> hierarchy) {
+			List<Map<String, String>> layers = new ArrayList<>();
+			for (DependencyManagement dependencyManagement : hierarchy) {
+				layers.add(dependencyManagement.getManagedVersions());
+			}
+			this.index = new ManagedVersionIndex(layers);
+			this.state = new HierarchyState(hierarchy);
+		}
+
+	}
+
+	/**
+	 * The state of the dependency management of a configuration hierarchy, used to detect
+	 * that state derived from it is stale.
+	 */
+	private static final class HierarchyState {
+
+		private final List<DependencyManagement> hierarchy;
+
+		private final int[] modificationCounts;
+
+		private HierarchyState(List<DependencyManagement> hierarchy) {
+			this.hierarchy = hierarchy;
+			this.modificationCounts = getModificationCounts(hierarchy);
+		}
+
+		private boolean isCurrent(List<DependencyManagement> hierarchy) {
+			return this.hierarchy.equals(hierarchy)
+					&& Arrays.equals(this.modificationCounts, getModificationCounts(hierarchy));
+		}
+
+		private static int[] getModificationCounts(List<DependencyManagement> hierarchy) {
+			int[] modificationCounts = new int[hierarchy.size()];
+			for (int i = 0; i < modificationCounts.length; i++) {
+				modificationCounts[i] = hierarchy.get(i).getModificationCount();
+			}
+			return modificationCounts;
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,8 +25,14 @@ public class DependencyManagementSettings {
 
 	private boolean applyMavenExclusions = true;
 
+	private boolean applyMavenExclusionsNatively;
+
+	private boolean applyManagedVersionsAsConstraints;
+
 	private boolean overriddenByDependencies = true;
 
+	private boolean parallelModelBuilding;
+
 	private final PomCustomizationSettings pomCustomizationSettings = new PomCustomizationSettings();
 
 	/**
@@ -49,6 +55,47 @@ public class DependencyManagementSettings {
 		this.applyMavenExclusions = applyMavenExclusions;
 	}
 
+	/**
+	 * Whether or not Maven-style exclusions should be applied natively as part of
+	 * Gradle's dependency resolution.
+	 * @return {@code true} if Maven-style exclusions should be applied natively,
+	 * otherwise {@code false}
+	 */
+	boolean isApplyMavenExclusionsNatively() {
+		return this.applyMavenExclusionsNatively;
+	}
+
+	/**
+	 * Set whether or not Maven-style exclusions should be applied natively as part of
+	 * Gradle's dependency resolution. The default is {@code false}.
+	 * @param applyMavenExclusionsNatively {@code true} if Maven-style exclusions should be
+	 * applied natively, otherwise {@code false}
+	 */
+	public void setApplyMavenExclusionsNatively(boolean applyMavenExclusionsNatively) {
+		this.applyMavenExclusionsNatively = applyMavenExclusionsNatively;
+	}
+
+	/**
+	 * Whether or not managed versions should be applied as strict dependency constraints
+	 * rather than by a callback for each dependency.
+	 * @return {@code true} if managed versions should be applied as constraints,
+	 * otherwise {@code false}
+	 */
+	boolean isApplyManagedVersionsAsConstraints() {
+		return this.applyManagedVersionsAsConstraints;
+	}
+
+	/**
+	 * Set whether or not managed versions should be applied as strict dependency
+	 * constraints rather than by a callback for each dependency. The default is
+	 * {@code false}.
+	 * @param applyManagedVersionsAsConstraints {@code true} if managed versions should be
+	 * applied as constraints, otherwise {@code false}
+	 */
+	public void setApplyManagedVersionsAsConstraints(boolean applyManagedVersionsAsConstraints) {
+		this.applyManagedVersionsAsConstraints = applyManagedVersionsAsConstraints;
+	}
+
 	/**
 	 * Whether or not dependency management should be overridden by versions declared on a
 	 * project's dependencies.
@@ -70,6 +117,26 @@ public class DependencyManagementSettings {
 		this.overriddenByDependencies = overriddenByDependencies;
 	}
 
+	/**
+	 * Whether or not the effective models of imported Maven boms should be built in
+	 * parallel.
+	 * @return {@code true} if models should be built in parallel, otherwise
+	 * {@code false}
+	 */
+	public boolean isParallelModelBuilding() {
+		return this.parallelModelBuilding;
+	}
+
+	/**
+	 * Set whether or not the effective models of imported Maven boms should be built in
+	 * parallel. The default is {@code false}.
+	 * @param parallelModelBuilding {@code true} if models should be built in parallel,
+	 * otherwise {@code false}
+	 */
+	public void setParallelModelBuilding(boolean parallelModelBuilding) {
+		this.parallelModelBuilding = parallelModelBuilding;
+	}
+
 	/**
 	 * Returns the settings for pom customization.
 	 * @return the pom customizations settings
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable, serializable snapshot of the managed versions of a configuration or of
+ * global dependency management. A snapshot does not reference the project or any of its
+ * configurations so it can be captured by tasks that are stored in Gradle's
+ * configuration cache.
+ *
+ * @author agent (agent@local)
+ */
+public final class DependencyManagementSnapshot implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<String, String> managedVersions;
+
+	DependencyManagementSnapshot(Map<String, String> managedVersions) {
+		this.managedVersions = Collections.unmodifiableMap(new TreeMap<>(managedVersions));
+	}
+
+	/**
+	 * Returns the managed versions, keyed by {@code groupId:artifactId}.
+	 * @return the managed versions
+	 */
+	public Map<String, String> getManagedVersions() {
+		return this.managedVersions;
+	}
+
+}
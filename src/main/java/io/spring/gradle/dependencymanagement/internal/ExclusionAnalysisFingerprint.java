@@ -0,0 +1,231 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.artifacts.DependencyArtifact;
+import org.gradle.api.artifacts.DependencyConstraint;
+import org.gradle.api.artifacts.ExcludeRule;
+import org.gradle.api.artifacts.ExternalDependency;
+import org.gradle.api.artifacts.FileCollectionDependency;
+import org.gradle.api.artifacts.ModuleDependency;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+import org.gradle.api.artifacts.ProjectDependency;
+import org.gradle.api.artifacts.VersionConstraint;
+import org.gradle.api.artifacts.repositories.ArtifactRepository;
+import org.gradle.api.artifacts.repositories.UrlArtifactRepository;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+import org.gradle.api.attributes.Attribute;
+import org.gradle.api.attributes.AttributeContainer;
+import org.gradle.api.capabilities.Capability;
+
+/**
+ * A fingerprint of the inputs to the analysis of a configuration's Maven exclusions. Two
+ * configurations with the same fingerprint have the same excluded dependencies so the
+ * analysis of one can be reused for the other, including across projects.
+ * <p>
+ * The fingerprint covers the configuration's project, its declared dependencies,
+ * including their attributes and requested capabilities, and dependency constraints, its
+ * effective dependency management, the settings that affect the analysis, and the
+ * project's repositories. Declared dependencies are fingerprinted in order as their order
+ * can affect the outcome of the analysis. The project's component metadata rules, which
+ * may change the resolved dependency graph, cannot be fingerprinted so the analysis is
+ * only shared by configurations in the same project. A fingerprint can be extended with
+ * the dependency graph that was resolved for the analysis so that it remains valid across
+ * builds.
+ *
+ * @author agent (agent@local)
+ */
+final class ExclusionAnalysisFingerprint {
+
+	private final MessageDigest digest;
+
+	private ExclusionAnalysisFingerprint() {
+		try {
+			this.digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Returns the fingerprint of the inputs to the analysis of the Maven exclusions of
+	 * the given {@code configuration}.
+	 * @param configuration the configuration
+	 * @param dependencyManagementContainer the container of the configuration's
+	 * dependency management
+	 * @param dependencyManagementSettings the dependency management settings
+	 * @return the fingerprint
+	 */
+	static String of(Configuration configuration, DependencyManagementContainer dependencyManagementContainer,
+			DependencyManagementSettings dependencyManagementSettings) {
+		ExclusionAnalysisFingerprint fingerprint = new ExclusionAnalysisFingerprint();
+		fingerprint.add("project:" + dependencyManagementContainer.getProject().getPath());
+		fingerprint.add("constraints:" + dependencyManagementSettings.isApplyManagedVersionsAsConstraints());
+		fingerprint.add("natively:" + dependencyManagementSettings.isApplyMavenExclusionsNatively());
+		for (ArtifactRepository repository : dependencyManagementContainer.getProject().getRepositories()) {
+			fingerprint.addRepository(repository);
+		}
+		for (Dependency dependency : configuration.getAllDependencies()) {
+			fingerprint.addDependency(dependency);
+		}
+		for (DependencyConstraint constraint : configuration.getAllDependencyConstraints()) {
+			fingerprint.add("constraint:" + constraint.getGroup() + ":" + constraint.getName());
+			fingerprint.addVersionConstraint(constraint.getVersionConstraint());
+			fingerprint.addAttributes(constraint.getAttributes());
+		}
+		new TreeMap<>(dependencyManagementContainer.getManagedVersionsForConfiguration(configuration))
+			.forEach((id, version) -> fingerprint.add("managed:" + id + ":" + version));
+		fingerprint.addExclusions(dependencyManagementContainer.getExclusions(configuration));
+		return fingerprint.toHexString();
+	}
+
+	/**
+	 * Returns a fingerprint that extends the given {@code fingerprint} with the
+	 * dependency graph formed by the given resolved {@code components}.
+	 * @param fingerprint the fingerprint of the analysis's inputs
+	 * @param components the components of the resolved dependency graph
+	 * @return the fingerprint
+	 */
+	static String of(String fingerprint, Collection<ResolvedComponentResult> components) {
+		List<String> entries = new ArrayList<>();
+		for (ResolvedComponentResult component : components) {
+			List<String> dependencies = new ArrayList<>();
+			for (DependencyResult dependency : component.getDependencies()) {
+				dependencies.add((dependency instanceof ResolvedDependencyResult)
+						? ((ResolvedDependencyResult) dependency).getSelected().getModuleVersion() + ":"
+								+ dependency.isConstraint()
+						: "unresolved:" + dependency.getRequested().getDisplayName());
+			}
+			Collections.sort(dependencies);
+			entries.add(component.getModuleVersion() + "->" + dependencies);
+		}
+		Collections.sort(entries);
+		ExclusionAnalysisFingerprint graphFingerprint = new ExclusionAnalysisFingerprint();
+		graphFingerprint.add(fingerprint);
+		for (String entry : entries) {
+			graphFingerprint.add("component:" + entry);
+		}
+		return graphFingerprint.toHexString();
+	}
+
+	/**
+	 * Returns whether any of the given {@code components} has a snapshot version. The
+	 * contents of a snapshot may change without a change to its version.
+	 * @param components the components
+	 * @return {@code true} if there is a snapshot, otherwise {@code false}
+	 */
+	static boolean hasSnapshot(Collection<ResolvedComponentResult> components) {
+		for (ResolvedComponentResult component : components) {
+			ModuleVersionIdentifier moduleVersion = component.getModuleVersion();
+			if (moduleVersion != null && moduleVersion.getVersion().endsWith("-SNAPSHOT")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addRepository(ArtifactRepository repository) {
+		add("repository:" + repository.getClass().getName() + ":" + repository.getName());
+		if (repository instanceof UrlArtifactRepository) {
+			add("url:" + ((UrlArtifactRepository) repository).getUrl());
+		}
+	}
+
+	private void addDependency(Dependency dependency) {
+		if (dependency instanceof FileCollectionDependency) {
+			return;
+		}
+		add("dependency:" + dependency.getClass().getName() + ":" + dependency.getGroup() + ":"
+				+ dependency.getName() + ":" + dependency.getVersion());
+		if (dependency instanceof ExternalDependency) {
+			addVersionConstraint(((ExternalDependency) dependency).getVersionConstraint());
+		}
+		if (dependency instanceof ProjectDependency) {
+			add("target:" + ((ProjectDependency) dependency).getTargetConfiguration());
+		}
+		if (dependency instanceof ModuleDependency) {
+			ModuleDependency moduleDependency = (ModuleDependency) dependency;
+			add("transitive:" + moduleDependency.isTransitive());
+			for (ExcludeRule excludeRule : moduleDependency.getExcludeRules()) {
+				add("exclude:" + excludeRule.getGroup() + ":" + excludeRule.getModule());
+			}
+			for (DependencyArtifact artifact : moduleDependency.getArtifacts()) {
+				add("artifact:" + artifact.getName() + ":" + artifact.getType() + ":" + artifact.getExtension() + ":"
+						+ artifact.getClassifier());
+			}
+			addAttributes(moduleDependency.getAttributes());
+			for (Capability capability : moduleDependency.getRequestedCapabilities()) {
+				add("capability:" + capability.getGroup() + ":" + capability.getName() + ":"
+						+ capability.getVersion());
+			}
+		}
+	}
+
+	private void addAttributes(AttributeContainer attributes) {
+		TreeMap<String, String> entries = new TreeMap<>();
+		for (Attribute<?> attribute : attributes.keySet()) {
+			entries.put(attribute.getName(), String.valueOf(attributes.getAttribute(attribute)));
+		}
+		entries.forEach((name, value) -> add("attribute:" + name + "=" + value));
+	}
+
+	private void addVersionConstraint(VersionConstraint versionConstraint) {
+		add("version:" + versionConstraint.getRequiredVersion() + ":" + versionConstraint.getPreferredVersion() + ":"
+				+ versionConstraint.getStrictVersion() + ":" + versionConstraint.getRejectedVersions());
+	}
+
+	private void addExclusions(Exclusions exclusions) {
+		List<String> entries = new ArrayList<>();
+		exclusions.forEach((dependency, exclusionsForDependency) -> {
+			for (Exclusion exclusion : exclusionsForDependency) {
+				entries.add(dependency + ":" + exclusion.getGroupId() + ":" + exclusion.getArtifactId());
+			}
+		});
+		Collections.sort(entries);
+		for (String entry : entries) {
+			add("exclusion:" + entry);
+		}
+	}
+
+	private void add(String input) {
+		this.digest.update(input.getBytes(StandardCharsets.UTF_8));
+		this.digest.update((byte) '\n');
+	}
+
+	private String toHexString() {
+		StringBuilder hex = new StringBuilder();
+		for (byte b : this.digest.digest()) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,12 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer.ConfigurationConfigurer;
+import io.spring.gradle.dependencymanagement.internal.jfr.DependencyManagementEvents;
+import io.spring.gradle.dependencymanagement.internal.jfr.Recording;
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
 import org.gradle.api.Action;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.Dependency;
@@ -59,59 +63,112 @@ class ExclusionConfiguringAction implements Action<DependencySet> {
 
 	private final Configuration configuration;
 
+	private final SharedExclusionsCache exclusionsCache;
+
+	private final PersistentExclusionsCache persistentExclusionsCache;
+
 	private final ExclusionResolver exclusionResolver;
 
 	private final ConfigurationConfigurer configurationConfigurer;
 
+	private final BooleanSupplier managedExclusionsAppliedNatively;
+
 	ExclusionConfiguringAction(DependencyManagementSettings dependencyManagementSettings,
 			DependencyManagementContainer dependencyManagementContainer,
 			DependencyManagementConfigurationContainer configurationContainer, Configuration configuration,
-			ExclusionResolver exclusionResolver, ConfigurationConfigurer configurationConfigurer) {
+			SharedExclusionsCache exclusionsCache, PersistentExclusionsCache persistentExclusionsCache,
+			ExclusionResolver exclusionResolver,
+			ConfigurationConfigurer configurationConfigurer,
+			BooleanSupplier managedExclusionsAppliedNatively) {
 		this.dependencyManagementSettings = dependencyManagementSettings;
 		this.dependencyManagementContainer = dependencyManagementContainer;
 		this.configurationContainer = configurationContainer;
 		this.configuration = configuration;
+		this.exclusionsCache = exclusionsCache;
+		this.persistentExclusionsCache = persistentExclusionsCache;
 		this.exclusionResolver = exclusionResolver;
 		this.configurationConfigurer = configurationConfigurer;
+		this.managedExclusionsAppliedNatively = managedExclusionsAppliedNatively;
 	}
 
 	@Override
 	public void execute(DependencySet dependencySet) {
 		if (this.configuration.isCanBeResolved() && this.configuration.isTransitive()
 				&& this.dependencyManagementSettings.isApplyMavenExclusions()) {
-			applyMavenExclusions(dependencySet);
+			if (!this.managedExclusionsAppliedNatively.getAsBoolean()
+					|| this.dependencyManagementContainer.hasConfigurationSpecificExclusions(this.configuration)) {
+				applyMavenExclusions(dependencySet);
+			}
 		}
 	}
 
 	private void applyMavenExclusions(DependencySet dependencySet) {
-		Set<DependencyCandidate> excludedDependencies = findExcludedDependencies();
+		Set<ModuleKey> excludedDependencies = findExcludedDependencies();
 		logger.info("Excluding {}", excludedDependencies);
-		for (DependencyCandidate excludedDependency : excludedDependencies) {
-			this.configuration.exclude(excludedDependency.asMap());
+		for (ModuleKey excludedDependency : excludedDependencies) {
+			Map<String, String> exclusion = new HashMap<>();
+			exclusion.put("group", excludedDependency.getGroup());
+			exclusion.put("module", excludedDependency.getName());
+			this.configuration.exclude(Collections.unmodifiableMap(exclusion));
+		}
+	}
+
+	private Set<ModuleKey> findExcludedDependencies() {
+		Recording recording = DependencyManagementEvents.beginExclusionAnalysis(
+				this.dependencyManagementContainer.getProject().getPath(), this.configuration.getName());
+		boolean cacheHit = false;
+		try {
+			String fingerprint = ExclusionAnalysisFingerprint.of(this.configuration,
+					this.dependencyManagementContainer, this.dependencyManagementSettings);
+			Set<ModuleKey> excludedDependencies = this.exclusionsCache.getExcludedDependencies(fingerprint);
+			if (excludedDependencies != null) {
+				logger.info("Reusing the exclusion analysis of a configuration with the same inputs as {}",
+						this.configuration);
+				cacheHit = true;
+				return excludedDependencies;
+			}
+			ResolutionResult resolutionResult = copyConfiguration().getIncoming().getResolutionResult();
+			Set<ResolvedComponentResult> components = resolutionResult.getAllComponents();
+			String graphFingerprint = ExclusionAnalysisFingerprint.hasSnapshot(components) ? null
+					: ExclusionAnalysisFingerprint.of(fingerprint, components);
+			excludedDependencies = (graphFingerprint != null) ? this.persistentExclusionsCache.get(graphFingerprint)
+					: null;
+			if (excludedDependencies != null) {
+				cacheHit = true;
+			}
+			else {
+				excludedDependencies = findExcludedDependencies(resolutionResult, components);
+				if (graphFingerprint != null) {
+					this.persistentExclusionsCache.put(graphFingerprint, excludedDependencies);
+				}
+			}
+			return this.exclusionsCache.putExcludedDependencies(fingerprint, excludedDependencies);
+		}
+		finally {
+			recording.commit(cacheHit);
 		}
 	}
 
-	private Set<DependencyCandidate> findExcludedDependencies() {
-		ResolutionResult resolutionResult = copyConfiguration().getIncoming().getResolutionResult();
+	private Set<ModuleKey> findExcludedDependencies(ResolutionResult resolutionResult,
+			Set<ResolvedComponentResult> components) {
 		ResolvedComponentResult root = resolutionResult.getRoot();
-		Set<DependencyCandidate> excludedDependencies = new HashSet<>();
+		Set<ModuleKey> excludedDependencies = new HashSet<>();
 		resolutionResult.allDependencies((dependencyResult) -> {
 			if (dependencyResult instanceof ResolvedDependencyResult) {
 				ResolvedDependencyResult resolved = (ResolvedDependencyResult) dependencyResult;
 				if (!resolved.isConstraint()) {
-					excludedDependencies.add(new DependencyCandidate(resolved.getSelected().getModuleVersion()));
+					excludedDependencies.add(getId(resolved.getSelected()));
 				}
 			}
 			else if (dependencyResult instanceof UnresolvedDependencyResult) {
-				DependencyCandidate dependencyCandidate = toDependencyCandidate(
-						(UnresolvedDependencyResult) dependencyResult);
-				if (dependencyCandidate != null) {
-					excludedDependencies.add(dependencyCandidate);
+				ModuleKey attempted = getAttemptedId((UnresolvedDependencyResult) dependencyResult);
+				if (attempted != null) {
+					excludedDependencies.add(attempted);
 				}
 			}
 		});
-		Set<DependencyCandidate> includedDependencies = determineIncludedComponents(root,
-				this.exclusionResolver.resolveExclusions(resolutionResult.getAllComponents()));
+		Set<ModuleKey> includedDependencies = determineIncludedComponents(root,
+				this.exclusionResolver.resolveExclusions(components));
 		excludedDependencies.removeAll(includedDependencies);
 		return excludedDependencies;
 	}
@@ -125,19 +182,20 @@ class ExclusionConfiguringAction implements Action<DependencySet> {
 		return configurationCopy;
 	}
 
-	private Set<DependencyCandidate> determineIncludedComponents(ResolvedComponentResult root,
-			Map<String, Exclusions> pomExclusionsById) {
+	private Set<ModuleKey> determineIncludedComponents(ResolvedComponentResult root,
+			Map<ModuleKey, Exclusions> pomExclusionsById) {
+		Exclusions managedExclusions = this.dependencyManagementContainer.getExclusions(this.configuration);
 		LinkedList<Node> queue = new LinkedList<>();
-		queue.add(new Node(root, getId(root), new HashSet<>()));
+		queue.add(new Node(root, getId(root), ExclusionChain.EMPTY));
 		Set<ResolvedComponentResult> seen = new HashSet<>();
-		Set<DependencyCandidate> includedComponents = new HashSet<>();
+		Set<ModuleKey> includedComponents = new HashSet<>();
 		while (!queue.isEmpty()) {
 			Node node = queue.remove();
-			includedComponents.add(new DependencyCandidate(node.component.getModuleVersion()));
+			includedComponents.add(node.id);
 			for (DependencyResult dependency : node.component.getDependencies()) {
 				if (dependency instanceof ResolvedDependencyResult) {
-					handleResolvedDependency((ResolvedDependencyResult) dependency, node, pomExclusionsById, queue,
-							seen);
+					handleResolvedDependency((ResolvedDependencyResult) dependency, node, managedExclusions,
+							pomExclusionsById, queue, seen);
 				}
 				else if (dependency instanceof UnresolvedDependencyResult) {
 					handleUnresolvedDependency((UnresolvedDependencyResult) dependency, node, includedComponents);
@@ -148,136 +206,115 @@ class ExclusionConfiguringAction implements Action<DependencySet> {
 	}
 
 	private void handleResolvedDependency(ResolvedDependencyResult dependency, Node node,
-			Map<String, Exclusions> pomExclusionsById, LinkedList<Node> queue, Set<ResolvedComponentResult> seen) {
+			Exclusions managedExclusions, Map<ModuleKey, Exclusions> pomExclusionsById, LinkedList<Node> queue,
+			Set<ResolvedComponentResult> seen) {
 		ResolvedComponentResult child = dependency.getSelected();
-		String childId = getId(child);
+		ModuleKey childId = getId(child);
 		if (!node.excluded(childId) && !dependency.isConstraint() && seen.add(child)) {
-			queue.add(new Node(child, childId, getChildExclusions(node, childId, pomExclusionsById)));
+			queue.add(new Node(child, childId,
+					getChildExclusions(node, childId, managedExclusions, pomExclusionsById)));
 		}
 	}
 
 	private void handleUnresolvedDependency(UnresolvedDependencyResult dependency, Node node,
-			Set<DependencyCandidate> includedComponents) {
-		DependencyCandidate dependencyCandidate = toDependencyCandidate(dependency);
-		if (dependencyCandidate != null && (!node.excluded(dependencyCandidate.getGroupAndArtifactId()))) {
-			includedComponents.add(dependencyCandidate);
+			Set<ModuleKey> includedComponents) {
+		ModuleKey attempted = getAttemptedId(dependency);
+		if (attempted != null && (!node.excluded(attempted))) {
+			includedComponents.add(attempted);
 		}
 	}
 
-	private DependencyCandidate toDependencyCandidate(UnresolvedDependencyResult unresolved) {
+	private ModuleKey getAttemptedId(UnresolvedDependencyResult unresolved) {
 		ComponentSelector attemptedSelector = unresolved.getAttempted();
 		if (!(attemptedSelector instanceof ModuleComponentSelector)) {
 			return null;
 		}
 		ModuleComponentSelector attemptedModuleSelector = (ModuleComponentSelector) attemptedSelector;
-		return new DependencyCandidate(attemptedModuleSelector.getGroup(), attemptedModuleSelector.getModule());
+		return ModuleKey.of(attemptedModuleSelector.getGroup(), attemptedModuleSelector.getModule());
 	}
 
-	private Set<Exclusion> getChildExclusions(Node parent, String childId, Map<String, Exclusions> pomExclusionsById) {
-		Set<Exclusion> childExclusions = new HashSet<>(parent.exclusions);
-		addAllIfPossible(childExclusions,
-				this.dependencyManagementContainer.getExclusions(this.configuration).exclusionsForDependency(childId));
+	private ExclusionChain getChildExclusions(Node parent, ModuleKey childId, Exclusions managedExclusions,
+			Map<ModuleKey, Exclusions> pomExclusionsById) {
+		ExclusionChain childExclusions = parent.exclusions.with(managedExclusions.exclusionsForDependency(childId));
 		Exclusions exclusionsInPom = pomExclusionsById.get(parent.id);
 		if (exclusionsInPom != null) {
-			addAllIfPossible(childExclusions, exclusionsInPom.exclusionsForDependency(childId));
+			childExclusions = childExclusions.with(exclusionsInPom.exclusionsForDependency(childId));
 		}
 		return childExclusions;
 	}
 
-	private void addAllIfPossible(Set<Exclusion> current, Set<Exclusion> addition) {
-		if (addition != null) {
-			current.addAll(addition);
-		}
-	}
-
-	private String getId(ResolvedComponentResult component) {
-		return component.getModuleVersion().getGroup() + ":" + component.getModuleVersion().getName();
+	private ModuleKey getId(ResolvedComponentResult component) {
+		ModuleVersionIdentifier moduleVersion = component.getModuleVersion();
+		return ModuleKey.of(moduleVersion.getGroup(), moduleVersion.getName());
 	}
 
-	private static final class Node {
+	static final class Node {
 
 		private final ResolvedComponentResult component;
 
-		private final String id;
+		private final ModuleKey id;
 
-		private final Set<Exclusion> exclusions;
+		private final ExclusionChain exclusions;
 
-		private Node(ResolvedComponentResult component, String id, Set<Exclusion> exclusions) {
+		Node(ResolvedComponentResult component, ModuleKey id, ExclusionChain exclusions) {
 			this.component = component;
 			this.id = id;
 			this.exclusions = exclusions;
 		}
 
-		private boolean excluded(String id) {
-			if (this.exclusions == null || this.exclusions.isEmpty()) {
-				return false;
-			}
-			String[] components = id.split(":");
-			for (Exclusion exclusion : this.exclusions) {
-				if (matches(components[0], exclusion.getGroupId())
-						&& matches(components[1], exclusion.getArtifactId())) {
-					return true;
-				}
-			}
-			return false;
-		}
-
-		private boolean matches(String candidate, String exclusion) {
-			return exclusion.equals("*") || exclusion.equals(candidate);
+		boolean excluded(ModuleKey id) {
+			return this.exclusions.excluded(id);
 		}
 
 	}
 
-	private static final class DependencyCandidate {
-
-		private final String groupId;
+	/**
+	 * The exclusions that apply to a node in the dependency graph, held as a chain of
+	 * links back towards the root. A child shares its parent's chain and only adds a link
+	 * when it has exclusions of its own. Each link's matcher includes its parent's so
+	 * that checking a module is a single lookup, however long the chain.
+	 */
+	static final class ExclusionChain {
 
-		private final String artifactId;
+		static final ExclusionChain EMPTY = new ExclusionChain(null, Collections.emptySet());
 
-		private DependencyCandidate(ModuleVersionIdentifier identifier) {
-			this(identifier.getGroup(), identifier.getName());
-		}
+		private final ExclusionChain parent;
 
-		private DependencyCandidate(String groupId, String artifactId) {
-			this.groupId = groupId;
-			this.artifactId = artifactId;
-		}
+		private final Set<Exclusion> exclusions;
 
-		@Override
-		public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (o == null || getClass() != o.getClass()) {
-				return false;
-			}
-			DependencyCandidate other = (DependencyCandidate) o;
-			boolean result = this.groupId.equals(other.groupId);
-			result = result && this.artifactId.equals(other.artifactId);
-			return result;
-		}
+		private ExclusionMatcher exclusionMatcher;
 
-		@Override
-		public int hashCode() {
-			int result = this.groupId.hashCode();
-			result = 31 * result + this.artifactId.hashCode();
-			return result;
+		private ExclusionChain(ExclusionChain parent, Set<Exclusion> exclusions) {
+			this.parent = parent;
+			this.exclusions = exclusions;
 		}
 
-		Map<String, String> asMap() {
-			Map<String, String> map = new HashMap<>();
-			map.put("group", this.groupId);
-			map.put("module", this.artifactId);
-			return Collections.unmodifiableMap(map);
+		/**
+		 * Returns a chain with the given {@code exclusions} in addition to those of this
+		 * chain.
+		 * @param exclusions the additional exclusions, may be {@code null}
+		 * @return the chain
+		 */
+		ExclusionChain with(Set<Exclusion> exclusions) {
+			if (exclusions == null || exclusions.isEmpty()) {
+				return this;
+			}
+			return new ExclusionChain(this, exclusions);
 		}
 
-		@Override
-		public String toString() {
-			return getGroupAndArtifactId();
+		boolean excluded(ModuleKey id) {
+			return getExclusionMatcher().matches(id);
 		}
 
-		String getGroupAndArtifactId() {
-			return this.groupId + ":" + this.artifactId;
+		private ExclusionMatcher getExclusionMatcher() {
+			ExclusionMatcher exclusionMatcher = this.exclusionMatcher;
+			if (exclusionMatcher == null) {
+				ExclusionMatcher parentMatcher = (this.parent != null) ? this.parent.getExclusionMatcher()
+						: ExclusionMatcher.of(null);
+				exclusionMatcher = parentMatcher.and(this.exclusions);
+				this.exclusionMatcher = exclusionMatcher;
+			}
+			return exclusionMatcher;
 		}
 
 	}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+
+/**
+ * Matches modules against a set of {@link Exclusion exclusions}. Exact exclusions,
+ * exclusions of every artifact in a group, and exclusions of an artifact in every group
+ * are indexed separately so that a module can be matched without scanning the
+ * exclusions.
+ *
+ * @author agent (agent@local)
+ */
+final class ExclusionMatcher {
+
+	private static final String WILDCARD = "*";
+
+	private static final ExclusionMatcher NONE = new ExclusionMatcher(false, Collections.emptySet(),
+			Collections.emptySet(), Collections.emptySet());
+
+	private final boolean matchesAll;
+
+	private final Set<ModuleKey> modules;
+
+	private final Set<String> groups;
+
+	private final Set<String> artifacts;
+
+	private ExclusionMatcher(boolean matchesAll, Set<ModuleKey> modules, Set<String> groups, Set<String> artifacts) {
+		this.matchesAll = matchesAll;
+		this.modules = modules;
+		this.groups = groups;
+		this.artifacts = artifacts;
+	}
+
+	/**
+	 * Returns a matcher for the given {@code exclusions}.
+	 * @param exclusions the exclusions, may be {@code null}
+	 * @return the matcher
+	 */
+	static ExclusionMatcher of(Collection<Exclusion> exclusions) {
+		return NONE.and(exclusions);
+	}
+
+	/**
+	 * Returns a matcher that matches the modules matched by this matcher and those
+	 * excluded by the given {@code exclusions}.
+	 * @param exclusions the additional exclusions, may be {@code null}
+	 * @return the matcher
+	 */
+	ExclusionMatcher and(Collection<Exclusion> exclusions) {
+		if (this.matchesAll || exclusions == null || exclusions.isEmpty()) {
+			return this;
+		}
+		boolean matchesAll = false;
+		Set<ModuleKey> modules = new HashSet<>(this.modules);
+		Set<String> groups = new HashSet<>(this.groups);
+		Set<String> artifacts = new HashSet<>(this.artifacts);
+		for (Exclusion exclusion : exclusions) {
+			boolean anyGroup = WILDCARD.equals(exclusion.getGroupId());
+			boolean anyArtifact = WILDCARD.equals(exclusion.getArtifactId());
+			if (anyGroup && anyArtifact) {
+				matchesAll = true;
+			}
+			else if (anyGroup) {
+				artifacts.add(exclusion.getArtifactId());
+			}
+			else if (anyArtifact) {
+				groups.add(exclusion.getGroupId());
+			}
+			else {
+				modules.add(ModuleKey.of(exclusion.getGroupId(), exclusion.getArtifactId()));
+			}
+		}
+		return new ExclusionMatcher(matchesAll, modules, groups, artifacts);
+	}
+
+	/**
+	 * Returns whether the module with the given {@code group} and {@code name} is
+	 * excluded.
+	 * @param group the module's group
+	 * @param name the module's name
+	 * @return {@code true} if the module is excluded, otherwise {@code false}
+	 */
+	boolean matches(String group, String name) {
+		return matches(ModuleKey.of(group, name));
+	}
+
+	/**
+	 * Returns whether the module with the given {@code key} is excluded.
+	 * @param key the module's key
+	 * @return {@code true} if the module is excluded, otherwise {@code false}
+	 */
+	boolean matches(ModuleKey key) {
+		if (this.matchesAll) {
+			return true;
+		}
+		return this.modules.contains(key) || this.groups.contains(key.getGroup())
+				|| this.artifacts.contains(key.getName());
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.util.Set;
 
 import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
 import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
 import io.spring.gradle.dependencymanagement.internal.pom.Pom;
 import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
 import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
@@ -46,38 +47,45 @@ class ExclusionResolver {
 	private static final Set<String> IGNORED_SCOPES = Collections
 		.unmodifiableSet(new HashSet<>(Arrays.asList("provided", "test")));
 
-	private final Map<String, Exclusions> exclusionsCache = new HashMap<>();
+	private final SharedExclusionsCache exclusionsCache;
 
 	private final PomResolver pomResolver;
 
-	ExclusionResolver(PomResolver pomResolver) {
+	ExclusionResolver(PomResolver pomResolver, SharedExclusionsCache exclusionsCache) {
 		this.pomResolver = pomResolver;
+		this.exclusionsCache = exclusionsCache;
 	}
 
-	Map<String, Exclusions> resolveExclusions(Collection<ResolvedComponentResult> resolvedComponents) {
+	Map<ModuleKey, Exclusions> resolveExclusions(Collection<ResolvedComponentResult> resolvedComponents) {
 		List<PomReference> pomReferences = new ArrayList<>();
-		Map<String, Exclusions> exclusionsById = new HashMap<>();
+		Map<ModuleKey, Exclusions> exclusionsById = new HashMap<>();
 		for (ResolvedComponentResult resolvedComponent : resolvedComponents) {
 			ModuleVersionIdentifier moduleVersion = resolvedComponent.getModuleVersion();
 			if (!(resolvedComponent.getId() instanceof ProjectComponentIdentifier) && moduleVersion.getGroup() != null
 					&& moduleVersion.getName() != null) {
-				String id = moduleVersion.getGroup() + ":" + moduleVersion.getName();
-				Exclusions exclusions = this.exclusionsCache.get(id);
+				Coordinates coordinates = new Coordinates(moduleVersion.getGroup(), moduleVersion.getName(),
+						moduleVersion.getVersion());
+				Exclusions exclusions = this.exclusionsCache.get(coordinates);
 				if (exclusions != null) {
-					exclusionsById.put(id, exclusions);
+					exclusionsById.put(coordinates.getModuleKey(), exclusions);
 				}
 				else {
-					pomReferences.add(new PomReference(new Coordinates(moduleVersion.getGroup(),
-							moduleVersion.getName(), moduleVersion.getVersion())));
+					pomReferences.add(new PomReference(coordinates));
 				}
 			}
 		}
+		if (pomReferences.isEmpty()) {
+			return exclusionsById;
+		}
+		Map<ModuleKey, Coordinates> requestedCoordinates = new HashMap<>();
+		for (PomReference pomReference : pomReferences) {
+			requestedCoordinates.put(pomReference.getCoordinates().getModuleKey(), pomReference.getCoordinates());
+		}
 		List<Pom> poms = this.pomResolver.resolvePomsLeniently(pomReferences);
 		for (Pom pom : poms) {
-			String id = pom.getCoordinates().getGroupAndArtifactId();
-			Exclusions exclusions = collectExclusions(pom);
-			this.exclusionsCache.put(id, exclusions);
-			exclusionsById.put(id, exclusions);
+			ModuleKey id = pom.getCoordinates().getModuleKey();
+			Coordinates coordinates = requestedCoordinates.getOrDefault(id, pom.getCoordinates());
+			exclusionsById.put(id, this.exclusionsCache.put(coordinates, collectExclusions(pom)));
 		}
 		return exclusionsById;
 	}
@@ -89,8 +97,7 @@ class ExclusionResolver {
 		for (Dependency dependency : dependencies) {
 			if (dependency.getExclusions() != null && !dependency.isOptional()
 					&& !IGNORED_SCOPES.contains(dependency.getScope())) {
-				String id = dependency.getCoordinates().getGroupAndArtifactId();
-				exclusions.add(id, new HashSet<>(dependency.getExclusions()));
+				exclusions.add(dependency.getCoordinates().getModuleKey(), new HashSet<>(dependency.getExclusions()));
 			}
 		}
 		return exclusions;
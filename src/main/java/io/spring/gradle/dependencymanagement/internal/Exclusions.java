@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,14 @@
 package io.spring.gradle.dependencymanagement.internal;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
 
 /**
  * A set of dependency exclusions.
@@ -29,9 +33,17 @@ import java.util.Set;
  */
 class Exclusions {
 
-	private final Map<String, Set<Exclusion>> exclusionsByDependency = new HashMap<>();
+	private final Map<ModuleKey, Set<Exclusion>> exclusionsByDependency;
+
+	Exclusions() {
+		this(new HashMap<>());
+	}
+
+	private Exclusions(Map<ModuleKey, Set<Exclusion>> exclusionsByDependency) {
+		this.exclusionsByDependency = exclusionsByDependency;
+	}
 
-	void add(String dependency, Collection<Exclusion> exclusionsForDependency) {
+	void add(ModuleKey dependency, Collection<Exclusion> exclusionsForDependency) {
 		if (exclusionsForDependency.isEmpty()) {
 			return;
 		}
@@ -43,10 +55,29 @@ class Exclusions {
 		exclusions.exclusionsByDependency.forEach(this::add);
 	}
 
-	Set<Exclusion> exclusionsForDependency(String dependency) {
+	Set<Exclusion> exclusionsForDependency(ModuleKey dependency) {
 		return this.exclusionsByDependency.get(dependency);
 	}
 
+	void forEach(BiConsumer<ModuleKey, Set<Exclusion>> action) {
+		this.exclusionsByDependency.forEach(action);
+	}
+
+	boolean isEmpty() {
+		return this.exclusionsByDependency.isEmpty();
+	}
+
+	/**
+	 * Returns an unmodifiable copy of these exclusions.
+	 * @return the unmodifiable copy
+	 */
+	Exclusions unmodifiableCopy() {
+		Map<ModuleKey, Set<Exclusion>> copy = new HashMap<>();
+		this.exclusionsByDependency.forEach((dependency, exclusionsForDependency) -> copy.put(dependency,
+				Collections.unmodifiableSet(new HashSet<>(exclusionsForDependency))));
+		return new Exclusions(Collections.unmodifiableMap(copy));
+	}
+
 	@Override
 	public String toString() {
 		return this.exclusionsByDependency.toString();
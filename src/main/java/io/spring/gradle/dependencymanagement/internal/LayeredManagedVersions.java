@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An unmodifiable view of the managed versions of a configuration hierarchy. Each layer
+ * is an unmodifiable snapshot of the managed versions of one level of the hierarchy, with
+ * earlier layers taking precedence over later layers. Lookups are performed against the
+ * layers directly and the layers are only merged if the view is iterated.
+ *
+ * @author agent (agent@local)
+ */
+final class LayeredManagedVersions extends AbstractMap<String, String> {
+
+	private final List<Map<String, String>> layers;
+
+	private Map<String, String> merged;
+
+	/**
+	 * Creates a new view of the given {@code layers}, ordered from highest to lowest
+	 * precedence.
+	 * @param layers the layers
+	 */
+	LayeredManagedVersions(List<Map<String, String>> layers) {
+		this.layers = layers;
+	}
+
+	@Override
+	public String get(Object key) {
+		for (Map<String, String> layer : this.layers) {
+			String version = layer.get(key);
+			if (version != null) {
+				return version;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (Map<String, String> layer : this.layers) {
+			if (!layer.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return merge().entrySet();
+	}
+
+	private Map<String, String> merge() {
+		if (this.merged == null) {
+			Map<String, String> merged = new HashMap<>();
+			for (int i = this.layers.size() - 1; i >= 0; i--) {
+				merged.putAll(this.layers.get(i));
+			}
+			this.merged = Collections.unmodifiableMap(merged);
+		}
+		return this.merged;
+	}
+
+}
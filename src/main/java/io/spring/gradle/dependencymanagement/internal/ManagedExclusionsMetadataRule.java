@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Set;
+
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+import org.gradle.api.Action;
+import org.gradle.api.artifacts.ComponentMetadataDetails;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+
+/**
+ * A component metadata rule that applies the exclusions in global dependency management
+ * natively during Gradle's dependency resolution. The dependencies of a component that
+ * are excluded by the dependency management for that component are removed from its
+ * metadata.
+ * <p>
+ * Exclusions that are declared in the poms of a configuration's dependencies are honored
+ * by Gradle itself so they do not require any special treatment.
+ * <p>
+ * The rule is registered once the project has been evaluated. Metadata rules may be run
+ * on other threads so the rule uses the exclusions of global dependency management as
+ * they were at that time.
+ *
+ * @author agent (agent@local)
+ */
+class ManagedExclusionsMetadataRule implements Action<ComponentMetadataDetails> {
+
+	private final Exclusions exclusions;
+
+	ManagedExclusionsMetadataRule(Exclusions exclusions) {
+		this.exclusions = exclusions;
+	}
+
+	@Override
+	public void execute(ComponentMetadataDetails details) {
+		ModuleVersionIdentifier id = details.getId();
+		Set<Exclusion> exclusionsForComponent = this.exclusions
+			.exclusionsForDependency(ModuleKey.of(id.getGroup(), id.getName()));
+		if (exclusionsForComponent == null || exclusionsForComponent.isEmpty()) {
+			return;
+		}
+		ExclusionMatcher exclusionMatcher = ExclusionMatcher.of(exclusionsForComponent);
+		details.allVariants((variant) -> variant.withDependencies((dependencies) -> dependencies
+			.removeIf((dependency) -> exclusionMatcher.matches(dependency.getGroup(), dependency.getName()))));
+	}
+
+}
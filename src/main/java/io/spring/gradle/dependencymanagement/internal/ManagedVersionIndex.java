@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of the managed versions of a configuration hierarchy. The layers of
+ * the hierarchy are collapsed when the index is created and the managed versions are
+ * indexed by group and then by name so that a version can be looked up without creating
+ * a {@code group:name} key.
+ *
+ * @author agent (agent@local)
+ */
+final class ManagedVersionIndex {
+
+	private final Map<String, Map<String, String>> versionsByGroup;
+
+	/**
+	 * Creates a new index of the given {@code layers} of managed versions, ordered from
+	 * highest to lowest precedence. Each layer's keys are of the form {@code group:name}.
+	 * @param layers the layers
+	 */
+	ManagedVersionIndex(List<Map<String, String>> layers) {
+		Map<String, Map<String, String>> versionsByGroup = new HashMap<>();
+		for (int i = layers.size() - 1; i >= 0; i--) {
+			for (Map.Entry<String, String> entry : layers.get(i).entrySet()) {
+				String key = entry.getKey();
+				int separator = key.indexOf(':');
+				versionsByGroup.computeIfAbsent(key.substring(0, separator), (group) -> new HashMap<>())
+					.put(key.substring(separator + 1), entry.getValue());
+			}
+		}
+		this.versionsByGroup = versionsByGroup;
+	}
+
+	/**
+	 * Returns the managed version of the dependency with the given {@code group} and
+	 * {@code name}.
+	 * @param group the dependency's group
+	 * @param name the dependency's name
+	 * @return the managed version or {@code null}
+	 */
+	String getVersion(String group, String name) {
+		Map<String, String> versionsByName = this.versionsByGroup.get(group);
+		return (versionsByName != null) ? versionsByName.get(name) : null;
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+import org.gradle.api.Project;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the dependencies excluded by the analysis of a configuration's Maven
+ * exclusions that is persisted to disk so that it can be used by subsequent builds. The
+ * excluded dependencies are cached in a file that is named using a fingerprint of the
+ * analysis's inputs and of the resolved dependency graph that was analyzed.
+ * <p>
+ * A file's last modified time records when it was last used. When exclusions are cached,
+ * files that have not been used for {@link #MAX_AGE} milliseconds are removed, as are the
+ * least recently used files beyond the first {@link #MAX_ENTRIES}. When dependencies are
+ * being refreshed, cached exclusions are not used but the exclusions that are found in
+ * their place are cached.
+ *
+ * @author agent (agent@local)
+ */
+final class PersistentExclusionsCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(PersistentExclusionsCache.class);
+
+	/**
+	 * The maximum number of files in the cache.
+	 */
+	static final int MAX_ENTRIES = 1000;
+
+	/**
+	 * The time, in milliseconds, after which a file that has not been used is removed.
+	 */
+	static final long MAX_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final long LAST_USED_RESOLUTION = TimeUnit.DAYS.toMillis(1);
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final File directory;
+
+	private final boolean refreshDependencies;
+
+	PersistentExclusionsCache(File directory, boolean refreshDependencies) {
+		this.directory = directory;
+		this.refreshDependencies = refreshDependencies;
+	}
+
+	/**
+	 * Returns the cached dependencies that were excluded by the analysis with the given
+	 * {@code fingerprint}.
+	 * @param fingerprint the fingerprint of the analysis
+	 * @return the excluded dependencies or {@code null}
+	 */
+	Set<ModuleKey> get(String fingerprint) {
+		if (this.refreshDependencies) {
+			return null;
+		}
+		File cacheFile = new File(this.directory, fingerprint);
+		if (!cacheFile.isFile()) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if (input.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			int count = input.readInt();
+			Set<ModuleKey> excludedDependencies = new HashSet<>();
+			for (int i = 0; i < count; i++) {
+				String group = input.readBoolean() ? input.readUTF() : null;
+				excludedDependencies.add(ModuleKey.of(group, input.readUTF()));
+			}
+			markUsed(cacheFile);
+			return excludedDependencies;
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to read cached exclusions " + fingerprint, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the given {@code excludedDependencies} that were excluded by the analysis
+	 * with the given {@code fingerprint}.
+	 * @param fingerprint the fingerprint of the analysis
+	 * @param excludedDependencies the excluded dependencies
+	 */
+	void put(String fingerprint, Set<ModuleKey> excludedDependencies) {
+		try {
+			this.directory.mkdirs();
+			File tempFile = File.createTempFile(fingerprint, ".tmp", this.directory);
+			try {
+				try (DataOutputStream output = new DataOutputStream(
+						new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+					output.writeInt(FORMAT_VERSION);
+					output.writeInt(excludedDependencies.size());
+					for (ModuleKey excludedDependency : excludedDependencies) {
+						output.writeBoolean(excludedDependency.getGroup() != null);
+						if (excludedDependency.getGroup() != null) {
+							output.writeUTF(excludedDependency.getGroup());
+						}
+						output.writeUTF(excludedDependency.getName());
+					}
+				}
+				move(tempFile, new File(this.directory, fingerprint));
+			}
+			finally {
+				tempFile.delete();
+			}
+			removeUnusedEntries();
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to cache exclusions " + fingerprint, ex);
+		}
+	}
+
+	private void markUsed(File cacheFile) {
+		long now = System.currentTimeMillis();
+		if (now - cacheFile.lastModified() > LAST_USED_RESOLUTION) {
+			cacheFile.setLastModified(now);
+		}
+	}
+
+	private void removeUnusedEntries() {
+		File[] cacheFiles = this.directory.listFiles((file) -> !file.getName().endsWith(".tmp"));
+		if (cacheFiles == null) {
+			return;
+		}
+		Arrays.sort(cacheFiles, Comparator.comparingLong(File::lastModified).reversed());
+		long oldest = System.currentTimeMillis() - MAX_AGE;
+		for (int i = 0; i < cacheFiles.length; i++) {
+			if (i >= MAX_ENTRIES || cacheFiles[i].lastModified() < oldest) {
+				cacheFiles[i].delete();
+			}
+		}
+	}
+
+	private void move(File source, File target) throws IOException {
+		try {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Returns the directory in which exclusions should be cached for the build of which
+	 * the given {@code project} is a part.
+	 * @param project the project
+	 * @return the cache directory
+	 */
+	static File getCacheDirectory(Project project) {
+		File projectCacheDir = project.getGradle().getStartParameter().getProjectCacheDir();
+		if (projectCacheDir == null) {
+			projectCacheDir = new File(project.getRootDir(), ".gradle");
+		}
+		return new File(projectCacheDir, "dependency-management/exclusions");
+	}
+
+}
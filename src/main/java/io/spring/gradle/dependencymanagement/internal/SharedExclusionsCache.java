@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * A {@link BuildService} that caches the {@link Exclusions} declared in the poms of
+ * dependencies for the duration of a build. A dependency that appears in the graphs of
+ * many projects only has its pom resolved and its exclusions collected once.
+ * <p>
+ * Cached exclusions are keyed by the full coordinates of the pom in which they are
+ * declared so that different versions of the same module do not collide. The cached
+ * exclusions are unmodifiable.
+ * <p>
+ * The service also caches the dependencies that the analysis of a configuration's
+ * exclusions found to be excluded, keyed by an {@link ExclusionAnalysisFingerprint
+ * fingerprint} of the analysis's inputs. Configurations in the same project with the
+ * same fingerprint share the result of a single analysis.
+ *
+ * @author agent (agent@local)
+ */
+public abstract class SharedExclusionsCache implements BuildService<BuildServiceParameters.None> {
+
+	private final ConcurrentMap<String, Exclusions> exclusions = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, Set<ModuleKey>> excludedDependencies = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the cached exclusions declared in the pom with the given
+	 * {@code coordinates}.
+	 * @param coordinates the coordinates of the pom
+	 * @return the exclusions or {@code null}
+	 */
+	Exclusions get(Coordinates coordinates) {
+		return this.exclusions.get(coordinates.toString());
+	}
+
+	/**
+	 * Caches the given {@code exclusions} that were declared in the pom with the given
+	 * {@code coordinates}.
+	 * @param coordinates the coordinates of the pom
+	 * @param exclusions the exclusions
+	 * @return the cached exclusions
+	 */
+	Exclusions put(Coordinates coordinates, Exclusions exclusions) {
+		Exclusions unmodifiable = exclusions.unmodifiableCopy();
+		Exclusions existing = this.exclusions.putIfAbsent(coordinates.toString(), unmodifiable);
+		return (existing != null) ? existing : unmodifiable;
+	}
+
+	/**
+	 * Returns the cached dependencies that were excluded by the analysis with the given
+	 * {@code fingerprint}.
+	 * @param fingerprint the fingerprint of the analysis's inputs
+	 * @return the excluded dependencies or {@code null}
+	 */
+	Set<ModuleKey> getExcludedDependencies(String fingerprint) {
+		return this.excludedDependencies.get(fingerprint);
+	}
+
+	/**
+	 * Caches the given {@code excludedDependencies} that were excluded by the analysis
+	 * with the given {@code fingerprint}.
+	 * @param fingerprint the fingerprint of the analysis's inputs
+	 * @param excludedDependencies the excluded dependencies
+	 * @return the cached excluded dependencies
+	 */
+	Set<ModuleKey> putExcludedDependencies(String fingerprint, Set<ModuleKey> excludedDependencies) {
+		Set<ModuleKey> unmodifiable = Collections.unmodifiableSet(new HashSet<>(excludedDependencies));
+		Set<ModuleKey> existing = this.excludedDependencies.putIfAbsent(fingerprint, unmodifiable);
+		return (existing != null) ? existing : unmodifiable;
+	}
+
+	/**
+	 * Returns the {@code SharedExclusionsCache} for the build of which the given
+	 * {@code project} is a part, registering it if necessary.
+	 * @param project the project
+	 * @return the shared exclusions cache
+	 */
+	static SharedExclusionsCache of(Project project) {
+		// The plugin may be loaded by more than one class loader in the same build
+		String name = SharedExclusionsCache.class.getName() + "_"
+				+ System.identityHashCode(SharedExclusionsCache.class.getClassLoader());
+		return project.getGradle()
+			.getSharedServices()
+			.registerIfAbsent(name, SharedExclusionsCache.class, (spec) -> {
+			})
+			.get();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,22 +16,33 @@
 
 package io.spring.gradle.dependencymanagement.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.artifacts.DependencyConstraint;
 import org.gradle.api.artifacts.DependencyResolveDetails;
 import org.gradle.api.artifacts.ModuleVersionSelector;
-import org.gradle.api.artifacts.ResolutionStrategy;
+import org.gradle.api.artifacts.dsl.DependencyConstraintHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * An {@link Action} to be applied to {@link DependencyResolveDetails} that configures the
- * dependency's version based on the dependency management.
+ * dependency's version based on the dependency management. Alternatively, when
+ * {@link DependencyManagementSettings#isApplyManagedVersionsAsConstraints() configured}
+ * to do so, the managed versions are added to a configuration as strict dependency
+ * constraints when its constraints are first used and Gradle applies them natively. In
+ * that case, the action only configures the versions of direct dependencies that declare
+ * a version, as a strict constraint would conflict with the declared version.
  *
  * @author Andy Wilkinson
  */
@@ -45,68 +56,142 @@ class VersionConfiguringAction implements Action<DependencyResolveDetails> {
 
 	private final Configuration configuration;
 
+	private final DependencyManagementSettings dependencyManagementSettings;
+
 	private final LocalProjects localProjects;
 
-	private Set<String> directDependencies;
+	private Set<ModuleKey> directDependencies;
+
+	private Set<ModuleKey> versionedDirectDependencies;
 
 	VersionConfiguringAction(Project project, DependencyManagementContainer dependencyManagementContainer,
-			Configuration configuration) {
+			Configuration configuration, DependencyManagementSettings dependencyManagementSettings) {
 		this.project = project;
 		this.localProjects = project.getGradle().getStartParameter().isConfigureOnDemand()
 				? new StandardLocalProjects(project) : new CachingLocalProjects(project);
 		this.dependencyManagementContainer = dependencyManagementContainer;
 		this.configuration = configuration;
+		this.dependencyManagementSettings = dependencyManagementSettings;
 	}
 
 	@Override
 	public void execute(DependencyResolveDetails details) {
+		if (this.dependencyManagementSettings.isApplyManagedVersionsAsConstraints()
+				&& !isVersionedDirectDependency(getId(details.getRequested()))) {
+			return;
+		}
+		configureVersion(details, this.dependencyManagementContainer.getManagedVersionIndex(this.configuration));
+	}
+
+	private void configureVersion(DependencyResolveDetails details, ManagedVersionIndex managedVersions) {
 		ModuleVersionSelector target = details.getTarget();
 		logger.debug("Processing requested dependency '{}' with target '{}", details.getRequested(), target);
-		if (isDependencyOnLocalProject(this.project, target)) {
+		String version = managedVersions.getVersion(target.getGroup(), target.getName());
+		if (version == null) {
+			logger.debug("No dependency management for dependency '{}'", target);
+			return;
+		}
+		ModuleKey id = getId(target);
+		if (isDependencyOnLocalProject(id)) {
 			logger.debug("'{}' is a local project dependency. Dependency management has not been applied", target);
 			return;
 		}
-		if (isDirectDependency(target) && Versions.isDynamic(target.getVersion())) {
+		if (isDirectDependency(id) && Versions.isDynamic(target.getVersion())) {
 			logger.debug("'{}' is a direct dependency and has a dynamic version. "
 					+ "Dependency management has not been applied", target);
 			return;
 		}
-		String version = this.dependencyManagementContainer.getManagedVersion(this.configuration, target.getGroup(),
-				target.getName());
-		if (version != null) {
-			logger.debug("Using version '{}' for dependency '{}'", version, target);
-			details.useVersion(version);
-			return;
-		}
-		logger.debug("No dependency management for dependency '{}'", target);
+		logger.debug("Using version '{}' for dependency '{}'", version, target);
+		details.useVersion(version);
 	}
 
-	private boolean isDirectDependency(ModuleVersionSelector selector) {
+	private boolean isDirectDependency(ModuleKey id) {
 		if (this.directDependencies == null) {
-			Set<String> directDependencies = new HashSet<>();
+			Set<ModuleKey> directDependencies = new HashSet<>();
 			for (Dependency dependency : this.configuration.getAllDependencies()) {
-				directDependencies.add(dependency.getGroup() + ":" + dependency.getName());
+				directDependencies.add(ModuleKey.of(dependency.getGroup(), dependency.getName()));
 			}
 			this.directDependencies = directDependencies;
 		}
-		return this.directDependencies.contains(getId(selector));
+		return this.directDependencies.contains(id);
+	}
+
+	private boolean isVersionedDirectDependency(ModuleKey id) {
+		if (this.versionedDirectDependencies == null) {
+			this.versionedDirectDependencies = getVersionedDirectDependencies();
+		}
+		return this.versionedDirectDependencies.contains(id);
+	}
+
+	private Set<ModuleKey> getVersionedDirectDependencies() {
+		Set<ModuleKey> versionedDirectDependencies = new HashSet<>();
+		for (Dependency dependency : this.configuration.getAllDependencies()) {
+			if (dependency.getVersion() != null) {
+				versionedDirectDependencies.add(ModuleKey.of(dependency.getGroup(), dependency.getName()));
+			}
+		}
+		return versionedDirectDependencies;
+	}
+
+	private boolean isDependencyOnLocalProject(ModuleKey id) {
+		return this.localProjects.getNames().contains(id);
+	}
+
+	private ModuleKey getId(ModuleVersionSelector selector) {
+		return ModuleKey.of(selector.getGroup(), selector.getName());
 	}
 
-	private boolean isDependencyOnLocalProject(Project project, ModuleVersionSelector selector) {
-		return this.localProjects.getNames().contains(getId(selector));
+	/**
+	 * Applies dependency management to the given {@code configuration}. When managed
+	 * versions are being applied as constraints and the configuration can be resolved,
+	 * they are added to its dependency constraints lazily, when the constraints are first
+	 * used. A copy of the configuration also adds them lazily.
+	 * @param configuration the configuration
+	 */
+	void applyTo(Configuration configuration) {
+		configuration.getResolutionStrategy().eachDependency(this);
+		configuration.getDependencyConstraints().addAllLater(this.project.provider(this::createConstraints));
 	}
 
-	private String getId(ModuleVersionSelector selector) {
-		return selector.getGroup() + ":" + selector.getName();
+	/**
+	 * Applies dependency management to the given detached {@code copy} of the
+	 * configuration. The copy is expected to have been given all of the configuration's
+	 * dependency constraints.
+	 * @param copy the copy of the configuration
+	 */
+	void applyToCopy(Configuration copy) {
+		copy.getResolutionStrategy().eachDependency(this);
 	}
 
-	ResolutionStrategy applyTo(Configuration c) {
-		return c.getResolutionStrategy().eachDependency(this);
+	private List<DependencyConstraint> createConstraints() {
+		if (!this.dependencyManagementSettings.isApplyManagedVersionsAsConstraints()
+				|| !this.configuration.isCanBeResolved()) {
+			return Collections.emptyList();
+		}
+		Map<String, String> managedVersions = this.dependencyManagementContainer
+			.getManagedVersionsForConfiguration(this.configuration);
+		Set<ModuleKey> versionedDirectDependencies = getVersionedDirectDependencies();
+		DependencyConstraintHandler constraintHandler = this.project.getDependencies().getConstraints();
+		List<DependencyConstraint> constraints = new ArrayList<>();
+		for (Map.Entry<String, String> managedVersion : managedVersions.entrySet()) {
+			String id = managedVersion.getKey();
+			ModuleKey key = ModuleKey.parse(id);
+			if (isDependencyOnLocalProject(key) || versionedDirectDependencies.contains(key)) {
+				continue;
+			}
+			constraints.add(constraintHandler.create(id, (created) -> {
+				created.version((version) -> version.strictly(managedVersion.getValue()));
+				created.because("Managed by the dependency management plugin");
+			}));
+		}
+		logger.debug("Created {} managed version constraints for configuration '{}'", constraints.size(),
+				this.configuration.getName());
+		return constraints;
 	}
 
 	private interface LocalProjects {
 
-		Set<String> getNames();
+		Set<ModuleKey> getNames();
 
 	}
 
@@ -119,10 +204,10 @@ class VersionConfiguringAction implements Action<DependencyResolveDetails> {
 		}
 
 		@Override
-		public Set<String> getNames() {
-			Set<String> names = new HashSet<>();
+		public Set<ModuleKey> getNames() {
+			Set<ModuleKey> names = new HashSet<>();
 			for (Project localProject : this.project.getRootProject().getAllprojects()) {
-				names.add(localProject.getGroup() + ":" + localProject.getName());
+				names.add(ModuleKey.of(String.valueOf(localProject.getGroup()), localProject.getName()));
 			}
 			return names;
 		}
@@ -133,15 +218,15 @@ class VersionConfiguringAction implements Action<DependencyResolveDetails> {
 
 		private final LocalProjects delegate;
 
-		private Set<String> localProjectNames;
+		private Set<ModuleKey> localProjectNames;
 
 		private CachingLocalProjects(Project project) {
 			this.delegate = new StandardLocalProjects(project);
 		}
 
 		@Override
-		public Set<String> getNames() {
-			Set<String> names = this.localProjectNames;
+		public Set<ModuleKey> getNames() {
+			Set<ModuleKey> names = this.localProjectNames;
 			if (names == null) {
 				names = this.delegate.getNames();
 				this.localProjectNames = names;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.spring.gradle.dependencymanagement.internal.bridge;
 
+import java.io.File;
+
 import io.spring.gradle.dependencymanagement.dsl.DependencyManagementExtension;
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementApplier;
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
@@ -23,6 +25,8 @@ import io.spring.gradle.dependencymanagement.internal.DependencyManagementContai
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementSettings;
 import io.spring.gradle.dependencymanagement.internal.ImplicitDependencyManagementCollector;
 import io.spring.gradle.dependencymanagement.internal.dsl.StandardDependencyManagementExtension;
+import io.spring.gradle.dependencymanagement.internal.lock.DependencyManagementLockTask;
+import io.spring.gradle.dependencymanagement.internal.lock.LockingPomResolver;
 import io.spring.gradle.dependencymanagement.internal.maven.MavenPomResolver;
 import io.spring.gradle.dependencymanagement.internal.report.DependencyManagementReportTask;
 import org.gradle.api.Action;
@@ -47,6 +51,8 @@ public class InternalComponents {
 
 	private final DependencyManagementContainer dependencyManagementContainer;
 
+	private final LockingPomResolver lockingPomResolver;
+
 	/**
 	 * Creates a new {@code InternalComponents} that will create and provide components
 	 * for the given {@code project}.
@@ -56,11 +62,15 @@ public class InternalComponents {
 		this.project = project;
 		DependencyManagementConfigurationContainer configurationContainer = new DependencyManagementConfigurationContainer(
 				project);
-		MavenPomResolver pomResolver = new MavenPomResolver(project, configurationContainer);
-		this.dependencyManagementContainer = new DependencyManagementContainer(project, pomResolver);
 		DependencyManagementSettings dependencyManagementSettings = new DependencyManagementSettings();
+		MavenPomResolver pomResolver = new MavenPomResolver(project, configurationContainer,
+				dependencyManagementSettings);
+		this.lockingPomResolver = new LockingPomResolver(pomResolver,
+				new File(project.getProjectDir(), "dependency-management.lockfile"));
+		this.dependencyManagementContainer = new DependencyManagementContainer(project, this.lockingPomResolver);
 		this.dependencyManagementExtension = new StandardDependencyManagementExtension(
-				this.dependencyManagementContainer, configurationContainer, project, dependencyManagementSettings);
+				this.dependencyManagementContainer, configurationContainer, project, dependencyManagementSettings,
+				this.lockingPomResolver);
 		this.implicitDependencyManagementCollector = new ImplicitDependencyManagementCollector(
 				this.dependencyManagementContainer, dependencyManagementSettings);
 		this.dependencyManagementApplier = new DependencyManagementApplier(project, this.dependencyManagementContainer,
@@ -99,7 +109,7 @@ public class InternalComponents {
 	 * @param taskName the task name
 	 */
 	public void createDependencyManagementReportTask(String taskName) {
-		this.project.getTasks().create(taskName, DependencyManagementReportTask.class, this::setupTask);
+		this.project.getTasks().register(taskName, DependencyManagementReportTask.class, this::setupTask);
 	}
 
 	private void setupTask(DependencyManagementReportTask task) {
@@ -108,4 +118,19 @@ public class InternalComponents {
 		task.setDescription("Displays the dependency management declared in " + task.getProject() + ".");
 	}
 
+	/**
+	 * Creates a dependency management lock task, assigning it the given {@code taskName}.
+	 * @param taskName the task name
+	 */
+	public void createDependencyManagementLockTask(String taskName) {
+		this.project.getTasks().register(taskName, DependencyManagementLockTask.class, this::setupTask);
+	}
+
+	private void setupTask(DependencyManagementLockTask task) {
+		task.setDependencyManagement(this.dependencyManagementContainer, this.lockingPomResolver,
+				this.dependencyManagementExtension.getPomConfigurer());
+		task.setDescription("Writes a lock file of the boms imported by the dependency management of "
+				+ task.getProject() + ".");
+	}
+
 }
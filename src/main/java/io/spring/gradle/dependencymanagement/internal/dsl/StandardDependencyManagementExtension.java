@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.spring.gradle.dependencymanagement.internal.dsl;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,12 +34,13 @@ import io.spring.gradle.dependencymanagement.internal.DependencyManagementContai
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementSettings;
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementSettings.PomCustomizationSettings;
 import io.spring.gradle.dependencymanagement.internal.StandardPomDependencyManagementConfigurer;
-import io.spring.gradle.dependencymanagement.internal.maven.MavenPomResolver;
+import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
 import org.codehaus.groovy.runtime.ReflectionMethodInvoker;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.ResolutionStrategy;
+import org.gradle.api.provider.Provider;
 
 /**
  * Standard implementation of {@link DependencyManagementExtension}.
@@ -56,6 +58,8 @@ public class StandardDependencyManagementExtension extends GroovyObjectSupport
 
 	private final DependencyManagementSettings dependencyManagementSettings;
 
+	private final PomResolver pomResolver;
+
 	/**
 	 * Creates a new {@code StandardDependencyManagementExtension} that is associated with
 	 * the given {@code project}.
@@ -66,14 +70,17 @@ public class StandardDependencyManagementExtension extends GroovyObjectSupport
 	 * @param project the project
 	 * @param dependencyManagementSettings the settings that control dependency management
 	 * behavior
+	 * @param pomResolver the resolver used to resolve imported boms when configuring
+	 * generated poms
 	 */
 	public StandardDependencyManagementExtension(DependencyManagementContainer dependencyManagementContainer,
 			DependencyManagementConfigurationContainer configurationContainer, Project project,
-			DependencyManagementSettings dependencyManagementSettings) {
+			DependencyManagementSettings dependencyManagementSettings, PomResolver pomResolver) {
 		this.dependencyManagementContainer = dependencyManagementContainer;
 		this.configurationContainer = configurationContainer;
 		this.project = project;
 		this.dependencyManagementSettings = dependencyManagementSettings;
+		this.pomResolver = pomResolver;
 	}
 
 	@Override
@@ -103,17 +110,35 @@ public class StandardDependencyManagementExtension extends GroovyObjectSupport
 
 	@Override
 	public Map<String, String> getManagedVersions() {
-		return this.dependencyManagementContainer.getManagedVersionsForConfiguration(null);
+		return new HashMap<>(this.dependencyManagementContainer.getManagedVersionsForConfiguration(null));
+	}
+
+	@Override
+	public Provider<Map<String, String>> getImportedPropertiesProvider() {
+		return new StandardDependencyManagementHandler(this.dependencyManagementContainer)
+			.getImportedPropertiesProvider();
+	}
+
+	@Override
+	public Provider<Map<String, String>> getManagedVersionsProvider() {
+		return new StandardDependencyManagementHandler(this.dependencyManagementContainer).getManagedVersionsProvider();
+	}
+
+	@Override
+	public Provider<String> managedVersion(String group, String name) {
+		return new StandardDependencyManagementHandler(this.dependencyManagementContainer).managedVersion(group, name);
 	}
 
 	@Override
 	public Map<String, String> getManagedVersionsForConfiguration(Configuration configuration) {
-		return this.dependencyManagementContainer.getManagedVersionsForConfiguration(configuration, false);
+		return new HashMap<>(
+				this.dependencyManagementContainer.getManagedVersionsForConfiguration(configuration, false));
 	}
 
 	@Override
 	public Map<String, String> getManagedVersionsForConfigurationHierarchy(Configuration configuration) {
-		return this.dependencyManagementContainer.getManagedVersionsForConfiguration(configuration, true);
+		return new HashMap<>(
+				this.dependencyManagementContainer.getManagedVersionsForConfiguration(configuration, true));
 	}
 
 	@Override
@@ -142,7 +167,7 @@ public class StandardDependencyManagementExtension extends GroovyObjectSupport
 		return new StandardPomDependencyManagementConfigurer(
 				this.dependencyManagementContainer.getGlobalDependencyManagement(),
 				this.dependencyManagementSettings.getPomCustomizationSettings(),
-				new MavenPomResolver(this.project, this.configurationContainer), this.project);
+				this.pomResolver, this.project);
 	}
 
 	/**
@@ -216,6 +241,36 @@ public class StandardDependencyManagementExtension extends GroovyObjectSupport
 		this.dependencyManagementSettings.setApplyMavenExclusions(applyMavenExclusions);
 	}
 
+	@Override
+	public void setApplyMavenExclusionsNatively(boolean applyMavenExclusionsNatively) {
+		this.dependencyManagementSettings.setApplyMavenExclusionsNatively(applyMavenExclusionsNatively);
+	}
+
+	@Override
+	public void applyMavenExclusionsNatively(boolean applyMavenExclusionsNatively) {
+		this.dependencyManagementSettings.setApplyMavenExclusionsNatively(applyMavenExclusionsNatively);
+	}
+
+	@Override
+	public void setApplyManagedVersionsAsConstraints(boolean applyManagedVersionsAsConstraints) {
+		this.dependencyManagementSettings.setApplyManagedVersionsAsConstraints(applyManagedVersionsAsConstraints);
+	}
+
+	@Override
+	public void applyManagedVersionsAsConstraints(boolean applyManagedVersionsAsConstraints) {
+		this.dependencyManagementSettings.setApplyManagedVersionsAsConstraints(applyManagedVersionsAsConstraints);
+	}
+
+	@Override
+	public void setParallelModelBuilding(boolean parallelModelBuilding) {
+		this.dependencyManagementSettings.setParallelModelBuilding(parallelModelBuilding);
+	}
+
+	@Override
+	public void parallelModelBuilding(boolean parallelModelBuilding) {
+		this.dependencyManagementSettings.setParallelModelBuilding(parallelModelBuilding);
+	}
+
 	@Override
 	public void setOverriddenByDependencies(boolean overriddenByDependencies) {
 		this.dependencyManagementSettings.setOverriddenByDependencies(overriddenByDependencies);
@@ -16,6 +16,7 @@
 
 package io.spring.gradle.dependencymanagement.internal.dsl;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import groovy.lang.Closure;
@@ -25,6 +26,7 @@ import io.spring.gradle.dependencymanagement.dsl.ImportsHandler;
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementContainer;
 import org.gradle.api.Action;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.provider.Provider;
 
 /**
  * Standard implementation of {@link DependencyManagementHandler}.
@@ -77,7 +79,24 @@ class StandardDependencyManagementHandler implements DependencyManagementHandler
 
 	@Override
 	public Map<String, String> getManagedVersions() {
-		return this.container.getManagedVersionsForConfiguration(this.configuration);
+		return new HashMap<>(this.container.getManagedVersionsForConfiguration(this.configuration));
+	}
+
+	@Override
+	public Provider<Map<String, String>> getImportedPropertiesProvider() {
+		return this.container.getProject().provider(this::getImportedProperties);
+	}
+
+	@Override
+	public Provider<Map<String, String>> getManagedVersionsProvider() {
+		return this.container.getProject().provider(this::getManagedVersions);
+	}
+
+	@Override
+	public Provider<String> managedVersion(String group, String name) {
+		return this.container.getProject()
+			.provider(() -> this.container.getManagedVersionsForConfiguration(this.configuration)
+				.get(group + ":" + name));
 	}
 
 }
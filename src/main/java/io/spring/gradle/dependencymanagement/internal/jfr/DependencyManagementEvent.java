@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class for the Java Flight Recorder events of the dependency management plugin.
+ *
+ * @author agent (agent@local)
+ */
+@Category("Dependency Management")
+@StackTrace(false)
+abstract class DependencyManagementEvent extends Event {
+
+	@Label("Project")
+	String project;
+
+	@Label("Configuration")
+	String configuration;
+
+	@Label("Coordinates")
+	String coordinates;
+
+	@Label("Cache Hit")
+	boolean cacheHit;
+
+}
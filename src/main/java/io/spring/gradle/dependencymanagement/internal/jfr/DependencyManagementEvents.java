@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.jfr;
+
+/**
+ * Records Java Flight Recorder events for the phases of dependency management. When
+ * Java Flight Recorder is not available, the events are not recorded.
+ *
+ * @author agent (agent@local)
+ */
+public final class DependencyManagementEvents {
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	private DependencyManagementEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, DependencyManagementEvents.class.getClassLoader());
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Begins an event for the resolution of the boms with the given {@code coordinates}.
+	 * @param project the path of the project
+	 * @param coordinates the coordinates of the boms
+	 * @return the recording of the event
+	 */
+	public static Recording beginBomResolution(String project, Object coordinates) {
+		return (AVAILABLE) ? JfrEvents.beginBomResolution(project, coordinates) : Recording.NONE;
+	}
+
+	/**
+	 * Begins an event for the building of the effective model of the pom with the given
+	 * {@code coordinates}.
+	 * @param project the path of the project
+	 * @param coordinates the coordinates of the pom
+	 * @return the recording of the event
+	 */
+	public static Recording beginModelBuilding(String project, Object coordinates) {
+		return (AVAILABLE) ? JfrEvents.beginModelBuilding(project, coordinates) : Recording.NONE;
+	}
+
+	/**
+	 * Begins an event for the resolution of the pom file or files with the given
+	 * {@code coordinates}.
+	 * @param project the path of the project
+	 * @param coordinates the coordinates of the pom or poms
+	 * @return the recording of the event
+	 */
+	public static Recording beginPomResolution(String project, Object coordinates) {
+		return (AVAILABLE) ? JfrEvents.beginPomResolution(project, coordinates) : Recording.NONE;
+	}
+
+	/**
+	 * Begins an event for the analysis of the Maven exclusions of the given
+	 * {@code configuration}.
+	 * @param project the path of the project
+	 * @param configuration the name of the configuration
+	 * @return the recording of the event
+	 */
+	public static Recording beginExclusionAnalysis(String project, String configuration) {
+		return (AVAILABLE) ? JfrEvents.beginExclusionAnalysis(project, configuration) : Recording.NONE;
+	}
+
+}
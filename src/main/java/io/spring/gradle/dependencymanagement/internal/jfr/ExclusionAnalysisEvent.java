@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for the exclusion analysis phase of dependency management.
+ *
+ * @author agent (agent@local)
+ */
+@Name("io.spring.gradle.dependencymanagement.ExclusionAnalysis")
+@Label("Exclusion Analysis")
+@Description("Analysis of the Maven exclusions that apply to a configuration")
+final class ExclusionAnalysisEvent extends DependencyManagementEvent {
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.jfr;
+
+/**
+ * Begins {@link DependencyManagementEvent DependencyManagementEvents}. Only used once
+ * Java Flight Recorder is known to be available so that its classes are not loaded
+ * otherwise.
+ *
+ * @author agent (agent@local)
+ */
+final class JfrEvents {
+
+	private JfrEvents() {
+	}
+
+	static Recording beginBomResolution(String project, Object coordinates) {
+		return begin(new BomResolutionEvent(), project, null, coordinates);
+	}
+
+	static Recording beginModelBuilding(String project, Object coordinates) {
+		return begin(new ModelBuildingEvent(), project, null, coordinates);
+	}
+
+	static Recording beginPomResolution(String project, Object coordinates) {
+		return begin(new PomResolutionEvent(), project, null, coordinates);
+	}
+
+	static Recording beginExclusionAnalysis(String project, String configuration) {
+		return begin(new ExclusionAnalysisEvent(), project, configuration, null);
+	}
+
+	private static Recording begin(DependencyManagementEvent event, String project, String configuration,
+			Object coordinates) {
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.project = project;
+		event.configuration = configuration;
+		event.coordinates = (coordinates != null) ? coordinates.toString() : null;
+		event.begin();
+		return (cacheHit) -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.cacheHit = cacheHit;
+				event.commit();
+			}
+		};
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.jfr;
+
+/**
+ * The recording of an event that was begun by {@link DependencyManagementEvents}.
+ *
+ * @author agent (agent@local)
+ */
+@FunctionalInterface
+public interface Recording {
+
+	/**
+	 * A recording that does nothing.
+	 */
+	Recording NONE = (cacheHit) -> {
+	};
+
+	/**
+	 * Ends the event and commits it if it is being recorded.
+	 * @param cacheHit whether the event's work was served from a cache
+	 */
+	void commit(boolean cacheHit);
+
+}
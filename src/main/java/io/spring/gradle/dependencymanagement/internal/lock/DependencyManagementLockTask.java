@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.lock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import groovy.util.Node;
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementContainer;
+import io.spring.gradle.dependencymanagement.maven.PomDependencyManagementConfigurer;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Task to write a lock file of the boms that are imported by a project's dependency
+ * management. Subsequent builds take the boms from the lock file rather than resolving
+ * them. Like the dependency management report, the task captures the contents of the
+ * lock file rather than the project itself so that it is compatible with the
+ * configuration cache.
+ *
+ * @author agent (agent@local)
+ */
+public class DependencyManagementLockTask extends DefaultTask {
+
+	private File lockFile;
+
+	private Provider<String> lockFileContents;
+
+	/**
+	 * Configures the task to lock the boms imported by the dependency management in the
+	 * given {@code dependencyManagementContainer} that are resolved using the given
+	 * {@code pomResolver}. The imports that the given {@code pomConfigurer} resolves when
+	 * configuring a generated pom are also locked.
+	 * @param dependencyManagementContainer the container
+	 * @param pomResolver the pom resolver
+	 * @param pomConfigurer the configurer for generated poms
+	 */
+	public void setDependencyManagement(DependencyManagementContainer dependencyManagementContainer,
+			LockingPomResolver pomResolver, PomDependencyManagementConfigurer pomConfigurer) {
+		Project project = getProject();
+		this.lockFile = pomResolver.getLockFile();
+		this.lockFileContents = project.provider(() -> {
+			dependencyManagementContainer.getManagedVersionsForConfiguration(null);
+			for (Configuration configuration : project.getConfigurations()) {
+				dependencyManagementContainer.getManagedVersionsForConfiguration(configuration, false);
+			}
+			pomConfigurer.configurePom(new Node(null, "project"));
+			return pomResolver.lock();
+		});
+	}
+
+	/**
+	 * {@link TaskAction} that writes the lock file.
+	 * @throws IOException if the lock file cannot be written
+	 */
+	@TaskAction
+	public void lock() throws IOException {
+		Files.write(this.lockFile.toPath(), this.lockFileContents.get().getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.lock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
+import io.spring.gradle.dependencymanagement.internal.properties.CompositePropertySource;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+
+/**
+ * The contents of a dependency management lock file. The file records the result of
+ * resolving each import of a list of boms, along with the coordinates of the boms and the
+ * values of the properties that were used while resolving them. An import is only taken
+ * from the file when its coordinates and the current values of those properties match.
+ *
+ * @author agent (agent@local)
+ */
+final class LockFile {
+
+	static final LockFile EMPTY = new LockFile(Collections.emptyList());
+
+	private static final int FORMAT_VERSION = 2;
+
+	private static final String HEADER = "# Dependency management lock file. Run the lockDependencyManagement task to"
+			+ " update it.";
+
+	private final List<LockedImport> imports;
+
+	LockFile(List<LockedImport> imports) {
+		this.imports = imports;
+	}
+
+	/**
+	 * Returns the poms that were locked for the import of the boms identified by the
+	 * given {@code pomReferences}, or {@code null} if there is no matching import.
+	 * @param pomReferences the references to the imported boms
+	 * @param properties the properties to apply to the resolution of each bom
+	 * @return the locked poms or {@code null}
+	 */
+	List<Pom> find(List<PomReference> pomReferences, PropertySource properties) {
+		for (LockedImport lockedImport : this.imports) {
+			if (lockedImport.matches(pomReferences, properties)) {
+				return lockedImport.poms;
+			}
+		}
+		return null;
+	}
+
+	boolean isEmpty() {
+		return this.imports.isEmpty();
+	}
+
+	/**
+	 * Formats this lock file as text. Imports are formatted in a stable order, without
+	 * duplicates, so that the text only changes when the locked imports change.
+	 * @return the formatted lock file
+	 */
+	String format() {
+		Set<String> imports = new TreeSet<>();
+		for (LockedImport lockedImport : this.imports) {
+			imports.add(lockedImport.toString());
+		}
+		StringBuilder content = new StringBuilder(HEADER).append("\nformat ").append(FORMAT_VERSION).append('\n');
+		imports.forEach(content::append);
+		return content.toString();
+	}
+
+	/**
+	 * Reads the lock file with the given {@code file}.
+	 * @param file the file to read
+	 * @return the lock file
+	 * @throws IOException if the file cannot be read
+	 * @throws IllegalStateException if the file's contents are malformed
+	 */
+	static LockFile read(File file) throws IOException {
+		List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		List<LockedImport> imports = new ArrayList<>();
+		Parser parser = null;
+		int lineNumber = 0;
+		for (String line : lines) {
+			lineNumber++;
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+				continue;
+			}
+			int separator = trimmed.indexOf(' ');
+			String keyword = (separator != -1) ? trimmed.substring(0, separator) : trimmed;
+			String value = (separator != -1) ? line.substring(line.indexOf(' ') + 1) : null;
+			if ("format".equals(keyword)) {
+				if (!String.valueOf(FORMAT_VERSION).equals(value)) {
+					throw new IllegalStateException("Unsupported format '" + value + "'");
+				}
+			}
+			else if ("import".equals(keyword)) {
+				if (parser != null) {
+					imports.add(parser.finish());
+				}
+				parser = new Parser();
+			}
+			else if (parser == null || !parser.accept(keyword, value)) {
+				throw new IllegalStateException("Unexpected content on line " + lineNumber + ": " + line);
+			}
+		}
+		if (parser != null) {
+			imports.add(parser.finish());
+		}
+		return new LockFile(imports);
+	}
+
+	private static String escape(String value, boolean name) {
+		StringBuilder escaped = new StringBuilder();
+		for (char c : value.toCharArray()) {
+			if (c == '\\' || (name && c == '=')) {
+				escaped.append('\\').append(c);
+			}
+			else if (c == '\n') {
+				escaped.append("\\n");
+			}
+			else if (c == '\r') {
+				escaped.append("\\r");
+			}
+			else if (c == '\t') {
+				escaped.append("\\t");
+			}
+			else {
+				escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String value) {
+		StringBuilder unescaped = new StringBuilder();
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				char escaped = value.charAt(++i);
+				unescaped.append((escaped == 'n') ? '\n' : (escaped == 'r') ? '\r' : (escaped == 't') ? '\t' : escaped);
+			}
+			else {
+				unescaped.append(c);
+			}
+		}
+		return unescaped.toString();
+	}
+
+	private static void appendProperty(StringBuilder output, String indent, String keyword, String name,
+			String value) {
+		output.append(indent).append(keyword).append(' ').append(escape(name, true));
+		if (value != null) {
+			output.append('=').append(escape(value, false));
+		}
+		output.append('\n');
+	}
+
+	private static String[] parseProperty(String property) {
+		for (int i = 0; i < property.length(); i++) {
+			char c = property.charAt(i);
+			if (c == '\\') {
+				i++;
+			}
+			else if (c == '=') {
+				return new String[] { unescape(property.substring(0, i)), unescape(property.substring(i + 1)) };
+			}
+		}
+		return new String[] { unescape(property), null };
+	}
+
+	private static Coordinates parseCoordinates(String coordinates) {
+		String[] components = coordinates.split(":");
+		if (components.length != 3) {
+			throw new IllegalStateException("Malformed coordinates '" + coordinates + "'");
+		}
+		return new Coordinates(components[0], components[1], components[2]);
+	}
+
+	/**
+	 * The locked result of importing a list of boms.
+	 */
+	static final class LockedImport {
+
+		private final List<LockedBom> boms;
+
+		private final List<Pom> poms;
+
+		LockedImport(List<LockedBom> boms, List<Pom> poms) {
+			this.boms = boms;
+			this.poms = poms;
+		}
+
+		private boolean matches(List<PomReference> pomReferences, PropertySource properties) {
+			if (this.boms.size() != pomReferences.size()) {
+				return false;
+			}
+			for (int i = 0; i < pomReferences.size(); i++) {
+				if (!this.boms.get(i).matches(pomReferences.get(i), properties)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder output = new StringBuilder("import\n");
+			for (LockedBom bom : this.boms) {
+				output.append("\tbom ").append(bom.coordinates).append('\n');
+				bom.usedProperties.forEach((name, value) -> appendProperty(output, "\t\t", "uses", name, value));
+			}
+			for (Pom pom : this.poms) {
+				output.append("\tpom ").append(pom.getCoordinates()).append('\n');
+				for (Dependency dependency : pom.getManagedDependencies()) {
+					output.append("\t\tmanaged ").append(dependency.getCoordinates()).append('\n');
+					appendAttribute(output, "type", "jar".equals(dependency.getType()) ? null : dependency.getType());
+					appendAttribute(output, "scope", dependency.getScope());
+					appendAttribute(output, "classifier", dependency.getClassifier());
+					for (Exclusion exclusion : dependency.getExclusions()) {
+						output.append("\t\t\texclusion ")
+							.append(exclusion.getGroupId())
+							.append(':')
+							.append(exclusion.getArtifactId())
+							.append('\n');
+					}
+				}
+				new TreeMap<>(pom.getProperties())
+					.forEach((name, value) -> appendProperty(output, "\t\t", "property", name, value));
+			}
+			return output.toString();
+		}
+
+		private void appendAttribute(StringBuilder output, String keyword, String value) {
+			if (value != null && !value.isEmpty()) {
+				output.append("\t\t\t").append(keyword).append(' ').append(value).append('\n');
+			}
+		}
+
+	}
+
+	/**
+	 * A bom in a {@link LockedImport}, identified by its coordinates and the values of
+	 * the properties that were used while resolving it. A value is {@code null} when the
+	 * property was used but had no value.
+	 */
+	static final class LockedBom {
+
+		private final Coordinates coordinates;
+
+		private final Map<String, String> usedProperties;
+
+		LockedBom(Coordinates coordinates, Map<String, String> usedProperties) {
+			this.coordinates = coordinates;
+			this.usedProperties = new TreeMap<>(usedProperties);
+		}
+
+		private boolean matches(PomReference pomReference, PropertySource properties) {
+			Coordinates coordinates = pomReference.getCoordinates();
+			if (!this.coordinates.getGroupId().equals(coordinates.getGroupId())
+					|| !this.coordinates.getArtifactId().equals(coordinates.getArtifactId())
+					|| !this.coordinates.getVersion().equals(coordinates.getVersion())) {
+				return false;
+			}
+			PropertySource currentProperties = propertiesFor(pomReference, properties);
+			for (Map.Entry<String, String> usedProperty : this.usedProperties.entrySet()) {
+				Object currentValue = currentProperties.getProperty(usedProperty.getKey());
+				if (!Objects.equals(usedProperty.getValue(), (currentValue != null) ? currentValue.toString() : null)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Returns the properties that are used when resolving the bom identified by the
+		 * given {@code pomReference}, including the system properties that Maven falls
+		 * back to during interpolation.
+		 * @param pomReference the reference to the bom
+		 * @param properties the properties to apply to the resolution of each bom
+		 * @return the properties for the bom
+		 */
+		static PropertySource propertiesFor(PomReference pomReference, PropertySource properties) {
+			return new CompositePropertySource(pomReference.getProperties(), properties, System::getProperty);
+		}
+
+	}
+
+	/**
+	 * Parses the lines of a single {@link LockedImport}.
+	 */
+	private static final class Parser {
+
+		private final List<LockedBom> boms = new ArrayList<>();
+
+		private final List<Pom> poms = new ArrayList<>();
+
+		private Coordinates bomCoordinates;
+
+		private Map<String, String> usedProperties;
+
+		private Coordinates pomCoordinates;
+
+		private List<Dependency> managedDependencies;
+
+		private Map<String, String> properties;
+
+		private Coordinates managedCoordinates;
+
+		private Set<Exclusion> exclusions;
+
+		private Map<String, String> managedAttributes;
+
+		private boolean accept(String keyword, String value) {
+			if (value == null) {
+				return false;
+			}
+			switch (keyword) {
+				case "bom":
+					finishBom();
+					this.bomCoordinates = parseCoordinates(value);
+					this.usedProperties = new LinkedHashMap<>();
+					return true;
+				case "uses":
+					if (this.usedProperties == null) {
+						return false;
+					}
+					String[] usedProperty = parseProperty(value);
+					this.usedProperties.put(usedProperty[0], usedProperty[1]);
+					return true;
+				case "pom":
+					finishBom();
+					finishPom();
+					this.pomCoordinates = parseCoordinates(value);
+					this.managedDependencies = new ArrayList<>();
+					this.properties = new LinkedHashMap<>();
+					return true;
+				case "managed":
+					if (this.pomCoordinates == null) {
+						return false;
+					}
+					finishManagedDependency();
+					this.managedCoordinates = parseCoordinates(value);
+					this.exclusions = new LinkedHashSet<>();
+					this.managedAttributes = new HashMap<>();
+					return true;
+				case "type":
+				case "scope":
+				case "classifier":
+					if (this.managedCoordinates == null) {
+						return false;
+					}
+					this.managedAttributes.put(keyword, value);
+					return true;
+				case "exclusion":
+					if (this.managedCoordinates == null) {
+						return false;
+					}
+					int separator = value.indexOf(':');
+					if (separator <= 0 || separator == value.length() - 1) {
+						return false;
+					}
+					this.exclusions.add(new Exclusion(value.substring(0, separator), value.substring(separator + 1)));
+					return true;
+				case "property":
+					if (this.properties == null) {
+						return false;
+					}
+					String[] property = parseProperty(value);
+					this.properties.put(property[0], (property[1] != null) ? property[1] : "");
+					return true;
+				default:
+					return false;
+			}
+		}
+
+		private void finishBom() {
+			if (this.bomCoordinates != null) {
+				this.boms.add(new LockedBom(this.bomCoordinates, this.usedProperties));
+				this.bomCoordinates = null;
+				this.usedProperties = null;
+			}
+		}
+
+		private void finishManagedDependency() {
+			if (this.managedCoordinates != null) {
+				this.managedDependencies.add(new Dependency(this.managedCoordinates, false,
+						this.managedAttributes.get("type"), this.managedAttributes.get("classifier"),
+						this.managedAttributes.get("scope"), this.exclusions));
+				this.managedCoordinates = null;
+				this.exclusions = null;
+				this.managedAttributes = null;
+			}
+		}
+
+		private void finishPom() {
+			finishManagedDependency();
+			if (this.pomCoordinates != null) {
+				this.poms.add(new Pom(this.pomCoordinates, Collections.unmodifiableList(this.managedDependencies),
+						Collections.emptyList(), Collections.unmodifiableMap(this.properties)));
+				this.pomCoordinates = null;
+				this.managedDependencies = null;
+				this.properties = null;
+			}
+		}
+
+		private LockedImport finish() {
+			finishBom();
+			finishPom();
+			return new LockedImport(Collections.unmodifiableList(this.boms), Collections.unmodifiableList(this.poms));
+		}
+
+	}
+
+}
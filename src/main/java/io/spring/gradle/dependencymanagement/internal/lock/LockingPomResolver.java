@@ -0,0 +1,201 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.lock;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.spring.gradle.dependencymanagement.internal.lock.LockFile.LockedBom;
+import io.spring.gradle.dependencymanagement.internal.lock.LockFile.LockedImport;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
+import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
+import io.spring.gradle.dependencymanagement.internal.properties.MapPropertySource;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import io.spring.gradle.dependencymanagement.internal.properties.RecordingPropertySource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link PomResolver} that resolves imported boms from a lock file when it can,
+ * delegating to another resolver when it cannot. The boms in an import are taken from the
+ * lock file when their coordinates and the properties that were used to resolve them are
+ * unchanged, bypassing the resolution of the boms and the building of their models.
+ *
+ * @author agent (agent@local)
+ */
+public final class LockingPomResolver implements PomResolver {
+
+	private static final Logger logger = LoggerFactory.getLogger(LockingPomResolver.class);
+
+	private static final PropertySource NO_PROPERTIES = new MapPropertySource(Collections.emptyMap());
+
+	private final PomResolver delegate;
+
+	private final File lockFile;
+
+	private final List<Import> imports = new CopyOnWriteArrayList<>();
+
+	private volatile LockFile lockFileContents;
+
+	/**
+	 * Creates a new {@code LockingPomResolver} that will use the given {@code lockFile}
+	 * and delegate to the given {@code delegate} for boms that are not locked.
+	 * @param delegate the delegate
+	 * @param lockFile the lock file
+	 */
+	public LockingPomResolver(PomResolver delegate, File lockFile) {
+		this.delegate = delegate;
+		this.lockFile = lockFile;
+	}
+
+	/**
+	 * Returns the lock file used by this resolver.
+	 * @return the lock file
+	 */
+	public File getLockFile() {
+		return this.lockFile;
+	}
+
+	@Override
+	public List<Pom> resolvePoms(List<PomReference> pomReferences, PropertySource properties) {
+		this.imports.add(new Import(new ArrayList<>(pomReferences), properties));
+		LockFile lockFileContents = getLockFileContents();
+		List<Pom> lockedPoms = lockFileContents.find(pomReferences, properties);
+		if (lockedPoms != null) {
+			logger.info("Using locked boms for import of {}", pomReferences);
+			return lockedPoms;
+		}
+		if (!lockFileContents.isEmpty()) {
+			logger.info("Lock file '{}' is out of date for import of {}", this.lockFile, pomReferences);
+		}
+		return this.delegate.resolvePoms(pomReferences, properties);
+	}
+
+	@Override
+	public List<Pom> resolvePomsLeniently(List<PomReference> pomReferences) {
+		return this.delegate.resolvePomsLeniently(pomReferences);
+	}
+
+	/**
+	 * Returns the contents of a lock file for every import of boms that this resolver has
+	 * been asked to resolve. The boms are resolved again using the delegate so that the
+	 * existing lock file does not affect the result.
+	 * @return the lock file contents
+	 */
+	String lock() {
+		List<LockedImport> lockedImports = new ArrayList<>();
+		for (Import bomImport : this.imports) {
+			lockedImports.add(lock(bomImport));
+		}
+		return new LockFile(lockedImports).format();
+	}
+
+	private LockedImport lock(Import bomImport) {
+		List<RecordingPropertySource> usedProperties = new ArrayList<>();
+		List<PomReference> recordingReferences = new ArrayList<>();
+		for (PomReference pomReference : bomImport.pomReferences) {
+			RecordingPropertySource properties = new RecordingPropertySource(
+					LockedBom.propertiesFor(pomReference, bomImport.properties));
+			usedProperties.add(properties);
+			recordingReferences.add(new PomReference(pomReference.getCoordinates(), properties));
+		}
+		List<Pom> poms = new ArrayList<>();
+		for (Pom pom : this.delegate.resolvePoms(recordingReferences, NO_PROPERTIES)) {
+			poms.add(lockable(pom));
+		}
+		List<LockedBom> boms = new ArrayList<>();
+		for (int i = 0; i < recordingReferences.size(); i++) {
+			boms.add(new LockedBom(recordingReferences.get(i).getCoordinates(),
+					usedProperties.get(i).getRecordedProperties()));
+		}
+		return new LockedImport(boms, poms);
+	}
+
+	/**
+	 * Returns a copy of the given {@code pom} that only contains the parts that are used
+	 * by dependency management and by the configuration of generated poms: its managed
+	 * dependencies that have a version, and its properties.
+	 * @param pom the pom
+	 * @return the lockable pom
+	 */
+	private Pom lockable(Pom pom) {
+		List<Dependency> managedDependencies = new ArrayList<>();
+		for (Dependency dependency : pom.getManagedDependencies()) {
+			Coordinates coordinates = dependency.getCoordinates();
+			if (!isEmpty(coordinates.getVersion())) {
+				managedDependencies.add(new Dependency(coordinates, false, dependency.getType(),
+						dependency.getClassifier(), dependency.getScope(), dependency.getExclusions()));
+			}
+		}
+		return new Pom(pom.getCoordinates(), managedDependencies, Collections.emptyList(),
+				new LinkedHashMap<>(pom.getProperties()));
+	}
+
+	private boolean isEmpty(String string) {
+		return string == null || string.trim().length() == 0;
+	}
+
+	private LockFile getLockFileContents() {
+		LockFile lockFileContents = this.lockFileContents;
+		if (lockFileContents == null) {
+			synchronized (this) {
+				if (this.lockFileContents == null) {
+					this.lockFileContents = readLockFile();
+				}
+				lockFileContents = this.lockFileContents;
+			}
+		}
+		return lockFileContents;
+	}
+
+	private LockFile readLockFile() {
+		if (!this.lockFile.isFile()) {
+			return LockFile.EMPTY;
+		}
+		try {
+			return LockFile.read(this.lockFile);
+		}
+		catch (Exception ex) {
+			logger.warn("Ignoring lock file '" + this.lockFile + "' as it could not be read: " + ex.getMessage());
+			return LockFile.EMPTY;
+		}
+	}
+
+	/**
+	 * An import of boms that this resolver has been asked to resolve.
+	 */
+	private static final class Import {
+
+		private final List<PomReference> pomReferences;
+
+		private final PropertySource properties;
+
+		private Import(List<PomReference> pomReferences, PropertySource properties) {
+			this.pomReferences = pomReferences;
+			this.properties = properties;
+		}
+
+	}
+
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+
+/**
+ * A compact, versioned binary format for {@link Pom Poms}. The format begins with its
+ * version and a table of every distinct string, followed by records in which each string
+ * is written as a varint index into the table. Group IDs, versions, scopes, and the like
+ * are repeated many times in a large bom so each is stored once and, when read, decoded
+ * once and shared by every record that uses it.
+ *
+ * @author agent (agent@local)
+ */
+final class CompactPomFormat {
+
+	/**
+	 * The version of the format.
+	 */
+	static final int VERSION = 3;
+
+	private CompactPomFormat() {
+	}
+
+	/**
+	 * Writes the given {@code pom} to the given {@code output}.
+	 * @param pom the pom
+	 * @param output the output
+	 */
+	static void writePom(Pom pom, Output output) {
+		writeCoordinates(pom.getCoordinates(), output);
+		writeDependencies(pom.getManagedDependencies(), output);
+		writeDependencies(pom.getDependencies(), output);
+		writeMap(pom.getProperties(), output);
+	}
+
+	/**
+	 * Reads a {@link Pom} from the given {@code input}.
+	 * @param input the input
+	 * @return the pom
+	 */
+	static Pom readPom(Input input) {
+		Coordinates coordinates = readCoordinates(input);
+		List<Dependency> managedDependencies = readDependencies(input);
+		List<Dependency> dependencies = readDependencies(input);
+		Map<String, String> properties = readMap(input);
+		return new Pom(coordinates, managedDependencies, dependencies, Collections.unmodifiableMap(properties));
+	}
+
+	/**
+	 * Writes the given {@code map} of strings to the given {@code output}.
+	 * @param map the map
+	 * @param output the output
+	 */
+	static void writeMap(Map<String, String> map, Output output) {
+		output.writeVarInt(map.size());
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			output.writeString(entry.getKey());
+			output.writeString(entry.getValue());
+		}
+	}
+
+	/**
+	 * Reads a map of strings from the given {@code input}.
+	 * @param input the input
+	 * @return the map
+	 */
+	static Map<String, String> readMap(Input input) {
+		int size = input.readVarInt();
+		Map<String, String> map = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			map.put(input.readString(), input.readString());
+		}
+		return map;
+	}
+
+	private static void writeDependencies(List<Dependency> dependencies, Output output) {
+		output.writeVarInt(dependencies.size());
+		for (Dependency dependency : dependencies) {
+			writeCoordinates(dependency.getCoordinates(), output);
+			output.writeVarInt(dependency.isOptional() ? 1 : 0);
+			output.writeString(dependency.getType());
+			output.writeString(dependency.getClassifier());
+			output.writeString(dependency.getScope());
+			output.writeVarInt(dependency.getExclusions().size());
+			for (Exclusion exclusion : dependency.getExclusions()) {
+				output.writeString(exclusion.getGroupId());
+				output.writeString(exclusion.getArtifactId());
+			}
+		}
+	}
+
+	private static List<Dependency> readDependencies(Input input) {
+		int count = input.readVarInt();
+		List<Dependency> dependencies = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Coordinates coordinates = readCoordinates(input);
+			boolean optional = input.readVarInt() != 0;
+			String type = input.readString();
+			String classifier = input.readString();
+			String scope = input.readString();
+			int exclusionCount = input.readVarInt();
+			Set<Exclusion> exclusions = new LinkedHashSet<>();
+			for (int j = 0; j < exclusionCount; j++) {
+				exclusions.add(new Exclusion(input.readString(), input.readString()));
+			}
+			dependencies.add(new Dependency(coordinates, optional, type, classifier, scope, exclusions));
+		}
+		return Collections.unmodifiableList(dependencies);
+	}
+
+	private static void writeCoordinates(Coordinates coordinates, Output output) {
+		output.writeString(coordinates.getGroupId());
+		output.writeString(coordinates.getArtifactId());
+		output.writeString(coordinates.getVersion());
+	}
+
+	private static Coordinates readCoordinates(Input input) {
+		return new Coordinates(input.readString(), input.readString(), input.readString());
+	}
+
+	/**
+	 * Output to which records in the format are written. The records are buffered until
+	 * they are {@link #writeTo written} so that the string table can precede them.
+	 */
+	static final class Output {
+
+		private final Map<String, Integer> indexes = new HashMap<>();
+
+		private final List<String> strings = new ArrayList<>();
+
+		private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+
+		/**
+		 * Writes the given non-negative {@code value} as a varint.
+		 * @param value the value
+		 */
+		void writeVarInt(int value) {
+			writeVarInt(value, this.records);
+		}
+
+		/**
+		 * Writes the given {@code string}, which may be {@code null}, as an index into
+		 * the string table.
+		 * @param string the string
+		 */
+		void writeString(String string) {
+			if (string == null) {
+				writeVarInt(0);
+				return;
+			}
+			Integer index = this.indexes.get(string);
+			if (index == null) {
+				this.strings.add(string);
+				index = this.strings.size();
+				this.indexes.put(string, index);
+			}
+			writeVarInt(index);
+		}
+
+		/**
+		 * Writes the format's version, the string table, and the records to the given
+		 * {@code stream}.
+		 * @param stream the stream to write to
+		 * @throws IOException if writing fails
+		 */
+		void writeTo(OutputStream stream) throws IOException {
+			ByteArrayOutputStream header = new ByteArrayOutputStream();
+			writeVarInt(VERSION, header);
+			writeVarInt(this.strings.size(), header);
+			for (String string : this.strings) {
+				byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+				writeVarInt(bytes.length, header);
+				header.write(bytes, 0, bytes.length);
+			}
+			header.writeTo(stream);
+			this.records.writeTo(stream);
+		}
+
+		private static void writeVarInt(int value, ByteArrayOutputStream stream) {
+			while ((value & ~0x7F) != 0) {
+				stream.write((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			stream.write(value);
+		}
+
+	}
+
+	/**
+	 * Input from which records in the format are read. Strings in the string table are
+	 * only decoded when they are first read.
+	 */
+	static final class Input {
+
+		private final ByteBuffer buffer;
+
+		private final int[] offsets;
+
+		private final int[] lengths;
+
+		private final String[] strings;
+
+		private Input(ByteBuffer buffer) {
+			this.buffer = buffer;
+			int count = readVarInt();
+			this.offsets = new int[count];
+			this.lengths = new int[count];
+			this.strings = new String[count];
+			for (int i = 0; i < count; i++) {
+				this.lengths[i] = readVarInt();
+				this.offsets[i] = buffer.position();
+				buffer.position(buffer.position() + this.lengths[i]);
+			}
+		}
+
+		/**
+		 * Returns an {@code Input} that reads from the given {@code buffer}, or
+		 * {@code null} if the buffer was written using a different version of the format.
+		 * @param buffer the buffer
+		 * @return the input or {@code null}
+		 */
+		static Input of(ByteBuffer buffer) {
+			ByteBuffer input = buffer.duplicate();
+			if (!input.hasRemaining() || readVarInt(input) != VERSION) {
+				return null;
+			}
+			return new Input(input);
+		}
+
+		/**
+		 * Reads a non-negative varint.
+		 * @return the value
+		 */
+		int readVarInt() {
+			return readVarInt(this.buffer);
+		}
+
+		/**
+		 * Reads a string, which may be {@code null}.
+		 * @return the string
+		 */
+		String readString() {
+			int index = readVarInt();
+			if (index == 0) {
+				return null;
+			}
+			String string = this.strings[index - 1];
+			if (string == null) {
+				ByteBuffer bytes = this.buffer.duplicate();
+				bytes.limit(this.offsets[index - 1] + this.lengths[index - 1]);
+				bytes.position(this.offsets[index - 1]);
+				string = StandardCharsets.UTF_8.decode(bytes).toString();
+				this.strings[index - 1] = string;
+			}
+			return string;
+		}
+
+		private static int readVarInt(ByteBuffer buffer) {
+			int value = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				byte b = buffer.get();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalStateException("Malformed varint");
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2023 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,20 @@
 
 package io.spring.gradle.dependencymanagement.internal.maven;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.jfr.DependencyManagementEvents;
+import io.spring.gradle.dependencymanagement.internal.jfr.Recording;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.Parent;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.Repository;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.FileModelSource;
@@ -30,26 +39,41 @@ import io.spring.gradle.dependencymanagement.org.apache.maven.model.resolution.U
 import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
 import org.gradle.api.artifacts.Dependency;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+import org.gradle.api.artifacts.ResolvedArtifact;
 
 /**
  * A {@link ModelResolver} that uses a {@link Configuration} to resolve the
  * {@link io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelSource}
- * for a pom. requested model.
+ * for a pom. requested model. The resolver is thread-safe. When a
+ * {@link ResolutionQueue} is bound to the calling thread, the resolution of poms that are
+ * not already known is performed on the queue's thread.
  *
  * @author Andy Wilkinson
  */
 @SuppressWarnings("deprecation")
 class ConfigurationModelResolver implements ModelResolver {
 
-	private final Map<String, FileModelSource> pomCache = new HashMap<>();
+	private final Map<String, ResolvedPom> pomCache = new ConcurrentHashMap<>();
 
 	private final Project project;
 
 	private final DependencyManagementConfigurationContainer configurationContainer;
 
+	private final String projectPath;
+
 	ConfigurationModelResolver(Project project, DependencyManagementConfigurationContainer configurationContainer) {
 		this.project = project;
 		this.configurationContainer = configurationContainer;
+		this.projectPath = project.getPath();
+	}
+
+	/**
+	 * Returns the path of the project whose configurations are used to resolve poms.
+	 * @return the project path
+	 */
+	String getProjectPath() {
+		return this.projectPath;
 	}
 
 	@Override
@@ -73,28 +97,121 @@ class ConfigurationModelResolver implements ModelResolver {
 		});
 	}
 
-	private io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelSource resolveModel(
-			String groupId, String artifactId, String version, Consumer<String> versionHandler) {
-		String coordinates = groupId + ":" + artifactId + ":" + version + "@pom";
-		FileModelSource pom = this.pomCache.get(coordinates);
-		if (pom == null) {
-			pom = resolveModel(coordinates, versionHandler);
-			this.pomCache.put(coordinates, pom);
+	/**
+	 * Resolves the pom file with the given coordinates.
+	 * @param groupId the group ID of the pom
+	 * @param artifactId the artifact ID of the pom
+	 * @param version the version of the pom
+	 * @return the pom file
+	 */
+	File resolvePom(String groupId, String artifactId, String version) {
+		return resolveModel(groupId, artifactId, version, (resolvedVersion) -> {
+		}).getFile();
+	}
+
+	/**
+	 * Returns the pom file with the given coordinates if it has already been resolved.
+	 * @param groupId the group ID of the pom
+	 * @param artifactId the artifact ID of the pom
+	 * @param version the version of the pom
+	 * @return the pom file or {@code null} if it has not been resolved
+	 */
+	File getResolvedPom(String groupId, String artifactId, String version) {
+		ResolvedPom pom = this.pomCache.get(createCoordinates(groupId, artifactId, version));
+		return (pom != null) ? pom.source.getFile() : null;
+	}
+
+	/**
+	 * Resolves the poms with the given coordinates in as few resolutions as possible so
+	 * that subsequent requests for them can be served without further resolution. Poms
+	 * that have already been resolved are ignored as are any that cannot be resolved.
+	 * @param poms the coordinates of the poms
+	 */
+	void prefetch(Collection<Coordinates> poms) {
+		Map<String, Coordinates> unresolved = new LinkedHashMap<>();
+		for (Coordinates pom : poms) {
+			String coordinates = createCoordinates(pom.getGroupId(), pom.getArtifactId(), pom.getVersion());
+			if (!this.pomCache.containsKey(coordinates)) {
+				unresolved.put(coordinates, pom);
+			}
+		}
+		for (Map<String, String> batch : createBatches(unresolved)) {
+			Recording recording = DependencyManagementEvents.beginPomResolution(this.projectPath, batch.values());
+			try {
+				prefetch(batch);
+			}
+			finally {
+				recording.commit(false);
+			}
+		}
+	}
+
+	private void prefetch(Map<String, String> batch) {
+		List<Dependency> dependencies = new ArrayList<>();
+		for (String coordinates : batch.values()) {
+			dependencies.add(this.project.getDependencies().create(coordinates));
+		}
+		Configuration configuration = this.configurationContainer
+			.newConfiguration(dependencies.toArray(new Dependency[0]));
+		for (ResolvedArtifact artifact : configuration.getResolvedConfiguration()
+			.getLenientConfiguration()
+			.getArtifacts()) {
+			ModuleVersionIdentifier id = artifact.getModuleVersion().getId();
+			String coordinates = batch.get(id.getGroup() + ":" + id.getName());
+			if (coordinates != null) {
+				this.pomCache.putIfAbsent(coordinates, new ResolvedPom(artifact));
+			}
+		}
+	}
+
+	private List<Map<String, String>> createBatches(Map<String, Coordinates> poms) {
+		// Each version of a module is resolved separately to avoid conflict resolution
+		List<Map<String, String>> batches = new ArrayList<>();
+		for (Map.Entry<String, Coordinates> pom : poms.entrySet()) {
+			String groupAndArtifactId = pom.getValue().getGroupAndArtifactId();
+			Map<String, String> batch = batches.stream()
+				.filter((candidate) -> !candidate.containsKey(groupAndArtifactId))
+				.findFirst()
+				.orElse(null);
+			if (batch == null) {
+				batch = new HashMap<>();
+				batches.add(batch);
+			}
+			batch.put(groupAndArtifactId, pom.getKey());
 		}
-		return pom;
+		return batches;
 	}
 
-	private FileModelSource resolveModel(String coordinates, Consumer<String> versionHandler) {
+	private FileModelSource resolveModel(String groupId, String artifactId, String version,
+			Consumer<String> versionHandler) {
+		String coordinates = createCoordinates(groupId, artifactId, version);
+		Recording recording = DependencyManagementEvents.beginPomResolution(this.projectPath, coordinates);
+		ResolvedPom pom = this.pomCache.get(coordinates);
+		boolean cacheHit = pom != null;
+		try {
+			if (!cacheHit) {
+				pom = ResolutionQueue.performOnOwner(() -> resolveAndCacheModel(coordinates));
+			}
+		}
+		finally {
+			recording.commit(cacheHit);
+		}
+		versionHandler.accept(pom.version);
+		return pom.source;
+	}
+
+	private ResolvedPom resolveAndCacheModel(String coordinates) {
+		return this.pomCache.computeIfAbsent(coordinates, this::resolveModel);
+	}
+
+	private String createCoordinates(String groupId, String artifactId, String version) {
+		return groupId + ":" + artifactId + ":" + version + "@pom";
+	}
+
+	private ResolvedPom resolveModel(String coordinates) {
 		Dependency dependency = this.project.getDependencies().create(coordinates);
 		Configuration configuration = this.configurationContainer.newConfiguration(dependency);
-		versionHandler.accept(configuration.getResolvedConfiguration()
-			.getResolvedArtifacts()
-			.iterator()
-			.next()
-			.getModuleVersion()
-			.getId()
-			.getVersion());
-		return new FileModelSource(configuration.resolve().iterator().next());
+		return new ResolvedPom(configuration.getResolvedConfiguration().getResolvedArtifacts().iterator().next());
 	}
 
 	@Override
@@ -109,7 +226,21 @@ class ConfigurationModelResolver implements ModelResolver {
 
 	@Override
 	public ModelResolver newCopy() {
+		// Thread-safe and stateless aside from its cache so a copy is unnecessary
 		return this;
 	}
 
+	private static final class ResolvedPom {
+
+		private final FileModelSource source;
+
+		private final String version;
+
+		private ResolvedPom(ResolvedArtifact artifact) {
+			this.source = new FileModelSource(artifact.getFile());
+			this.version = artifact.getModuleVersion().getId().getVersion();
+		}
+
+	}
+
 }
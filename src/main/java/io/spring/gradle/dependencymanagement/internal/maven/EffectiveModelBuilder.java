@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,13 +18,29 @@ package io.spring.gradle.dependencymanagement.internal.maven;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
-import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.jfr.DependencyManagementEvents;
+import io.spring.gradle.dependencymanagement.internal.jfr.Recording;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
 import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import io.spring.gradle.dependencymanagement.internal.properties.RecordingPropertySource;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Activation;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.Model;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Profile;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.DefaultModelBuilder;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.DefaultModelBuilderFactory;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.DefaultModelBuildingRequest;
@@ -33,13 +49,29 @@ import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.Mod
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelBuildingResult;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelCache;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelProblem;
-import io.spring.gradle.dependencymanagement.org.apache.maven.model.resolution.ModelResolver;
-import org.gradle.api.Project;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelProblemCollector;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.profile.ProfileActivationContext;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.profile.ProfileSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Builds the effective {@link Model} for a Maven pom.
+ * Builds the effective {@link Model} for a Maven pom. The models for multiple poms can
+ * optionally be built in parallel using an executor. In that case, the resolution of any
+ * parents and imports is still performed on the calling thread. Before the models are
+ * built, the calling thread snapshots the values of each input's properties that are
+ * named by a placeholder in the poms that were prefetched or in Maven's super POM. Other
+ * properties are still looked up on the calling thread. Models are always built serially
+ * when building them was triggered by the building of other models as the executor's
+ * threads may all be waiting for the calling thread.
+ * <p>
+ * A single Maven model builder is created lazily and reused for every model that is
+ * built. The input-specific parts of model building, the properties and system
+ * properties used for interpolation and the recording of profile activation, are looked
+ * up from the input whose model is being built by the current thread.
+ * <p>
+ * Raw models are cached in a bounded cache that is shared across calls to
+ * {@link #buildModels}.
  *
  * @author Andy Wilkinson
  */
@@ -47,33 +79,119 @@ final class EffectiveModelBuilder {
 
 	private static final Logger logger = LoggerFactory.getLogger(EffectiveModelBuilder.class);
 
-	private final ModelResolver modelResolver;
+	private static final int RAW_MODEL_CACHE_SIZE = 256;
 
-	EffectiveModelBuilder(Project project, DependencyManagementConfigurationContainer configurationContainer) {
-		this.modelResolver = new ConfigurationModelResolver(project, configurationContainer);
+	/**
+	 * The names of the placeholders in Maven's super POM, from which every model inherits.
+	 */
+	private static final Set<String> SUPER_POM_PLACEHOLDERS = Collections.unmodifiableSet(new HashSet<>(
+			Arrays.asList("project.artifactId", "project.basedir", "project.build.directory", "project.version")));
+
+	private final ConfigurationModelResolver modelResolver;
+
+	private final ThreadLocal<ModelInput> currentInput = new ThreadLocal<>();
+
+	private final RawModelCache rawModelCache = new RawModelCache(RAW_MODEL_CACHE_SIZE);
+
+	private DefaultModelBuilder modelBuilder;
+
+	EffectiveModelBuilder(ConfigurationModelResolver modelResolver) {
+		this.modelResolver = modelResolver;
+	}
+
+	/**
+	 * Builds the effective models for the given {@code inputs}.
+	 * @param inputs the inputs
+	 * @param executor the executor that should be used to build the models in parallel, or
+	 * {@code null} to build them serially on the calling thread
+	 * @return the models, keyed by input
+	 */
+	Map<ModelInput, Model> buildModels(List<ModelInput> inputs, ExecutorService executor) {
+		Set<String> placeholders = new HashSet<>(SUPER_POM_PLACEHOLDERS);
+		placeholders.addAll(new PomPrefetcher(this.modelResolver).prefetch(inputs));
+		Map<ModelInput, Model> models = (executor != null && inputs.size() > 1 && !ResolutionQueue.isBound())
+				? buildModelsInParallel(inputs, placeholders, executor) : buildModelsSerially(inputs);
+		logger.debug("Raw model cache: {}", this.rawModelCache);
+		return models;
 	}
 
-	List<Model> buildModels(List<ModelInput> inputs) {
-		List<Model> models = new ArrayList<>();
-		InMemoryModelCache cache = new InMemoryModelCache();
+	private Map<ModelInput, Model> buildModelsSerially(List<ModelInput> inputs) {
+		Map<ModelInput, Model> models = new LinkedHashMap<>();
 		for (ModelInput input : inputs) {
-			Model model = buildModel(input, cache);
+			Model model = buildModel(input);
 			if (model != null) {
-				models.add(model);
+				models.put(input, model);
 			}
 		}
 		return models;
 	}
 
-	private Model buildModel(ModelInput input, InMemoryModelCache cache) {
+	private Map<ModelInput, Model> buildModelsInParallel(List<ModelInput> inputs, Set<String> placeholders,
+			ExecutorService executor) {
+		ResolutionQueue resolutionQueue = new ResolutionQueue();
+		List<Future<Model>> futures = new ArrayList<>();
+		try {
+			for (ModelInput input : inputs) {
+				input.snapshotProperties(placeholders);
+				futures.add(executor.submit(resolutionQueue.bind(() -> buildModel(input))));
+			}
+			resolutionQueue.processUntilDone(futures);
+			Map<ModelInput, Model> models = new LinkedHashMap<>();
+			for (int i = 0; i < inputs.size(); i++) {
+				Model model = getModel(futures.get(i));
+				if (model != null) {
+					models.put(inputs.get(i), model);
+				}
+			}
+			return models;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while building models", ex);
+		}
+		finally {
+			for (Future<Model> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	private Model getModel(Future<Model> future) throws InterruptedException {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	private Model buildModel(ModelInput input) {
+		Recording recording = DependencyManagementEvents.beginModelBuilding(this.modelResolver.getProjectPath(),
+				input.coordinates);
+		try {
+			return buildEffectiveModel(input);
+		}
+		finally {
+			recording.commit(false);
+		}
+	}
+
+	private Model buildEffectiveModel(ModelInput input) {
 		DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
-		request.setSystemProperties(System.getProperties());
+		request.setSystemProperties(input.systemProperties);
 		request.setModelSource(new FileModelSource(input.pom));
 		request.setModelResolver(this.modelResolver);
-		request.setModelCache(cache);
+		InputModelCache modelCache = new InputModelCache(this.rawModelCache);
+		request.setModelCache(modelCache);
+		DefaultModelBuilder modelBuilder = getModelBuilder();
+		this.currentInput.set(input);
 		try {
-			ModelBuildingResult result = createModelBuilder(input.properties).build(request);
+			ModelBuildingResult result = modelBuilder.build(request);
 			reportErrors(extractErrors(result.getProblems()), input.pom);
+			input.referencedPoms = getReferencedPoms(input, modelCache.requestedCoordinates.values());
 			return result.getEffectiveModel();
 		}
 		catch (ModelBuildingException ex) {
@@ -81,6 +199,28 @@ final class EffectiveModelBuilder {
 			reportErrors(extractErrors(ex.getProblems()), input.pom);
 			return ex.getResult().getEffectiveModel();
 		}
+		finally {
+			this.currentInput.remove();
+		}
+	}
+
+	private Map<Coordinates, File> getReferencedPoms(ModelInput input, Collection<Coordinates> requestedCoordinates) {
+		if (input.environmentDependent) {
+			return null;
+		}
+		Map<Coordinates, File> referencedPoms = new LinkedHashMap<>();
+		for (Coordinates coordinates : requestedCoordinates) {
+			if (coordinates.toString().equals(input.coordinates.toString())) {
+				continue;
+			}
+			File pom = this.modelResolver.getResolvedPom(coordinates.getGroupId(), coordinates.getArtifactId(),
+					coordinates.getVersion());
+			if (pom == null) {
+				return null;
+			}
+			referencedPoms.put(coordinates, pom);
+		}
+		return referencedPoms;
 	}
 
 	private List<ModelProblem> extractErrors(List<ModelProblem> problems) {
@@ -105,25 +245,237 @@ final class EffectiveModelBuilder {
 		logger.error(message.toString());
 	}
 
-	private DefaultModelBuilder createModelBuilder(PropertySource properties) {
-		DefaultModelBuilder modelBuilder = new DefaultModelBuilderFactory().newInstance();
-		modelBuilder.setModelInterpolator(new PropertiesModelInterpolator(properties));
+	private synchronized DefaultModelBuilder getModelBuilder() {
+		if (this.modelBuilder == null) {
+			this.modelBuilder = createModelBuilder();
+		}
+		return this.modelBuilder;
+	}
+
+	private DefaultModelBuilder createModelBuilder() {
+		DefaultModelBuilderFactory modelBuilderFactory = new DefaultModelBuilderFactory() {
+
+			@Override
+			protected ProfileSelector newProfileSelector() {
+				return new ActivationRecordingProfileSelector(super.newProfileSelector(),
+						EffectiveModelBuilder.this.currentInput);
+			}
+
+		};
+		DefaultModelBuilder modelBuilder = modelBuilderFactory.newInstance();
+		modelBuilder.setModelInterpolator(
+				new PropertiesModelInterpolator(this::getCurrentInputProperty, this::getCurrentInputSystemProperty));
 		modelBuilder.setModelValidator(new RelaxedModelValidator());
 		return modelBuilder;
 	}
 
+	private Object getCurrentInputProperty(String name) {
+		return this.currentInput.get().recordingProperties.getProperty(name);
+	}
+
+	private Object getCurrentInputSystemProperty(String name) {
+		ModelInput input = this.currentInput.get();
+		String value = input.systemProperties.getProperty(name);
+		input.usedSystemProperties.put(name, value);
+		return value;
+	}
+
 	/**
 	 * Input to a model building request.
 	 */
 	static class ModelInput {
 
+		private final Coordinates coordinates;
+
 		private final File pom;
 
 		private final PropertySource properties;
 
-		ModelInput(File pom, PropertySource properties) {
+		private final Properties systemProperties;
+
+		private final RecordingPropertySource recordingProperties;
+
+		private Map<String, Object> propertiesSnapshot;
+
+		private final Map<String, String> usedSystemProperties = new LinkedHashMap<>();
+
+		private boolean environmentDependent;
+
+		private Map<Coordinates, File> referencedPoms;
+
+		ModelInput(Coordinates coordinates, File pom, PropertySource properties, Properties systemProperties) {
+			this.coordinates = coordinates;
 			this.pom = pom;
 			this.properties = properties;
+			this.systemProperties = systemProperties;
+			this.recordingProperties = new RecordingPropertySource(this::lookUpProperty);
+		}
+
+		/**
+		 * Snapshots the values of the properties with the given {@code names}. Must be
+		 * called on the thread that owns the input's properties before the model is built
+		 * on another thread.
+		 * @param names the names of the properties
+		 */
+		void snapshotProperties(Set<String> names) {
+			Map<String, Object> snapshot = new HashMap<>();
+			for (String name : names) {
+				snapshot.put(name, this.properties.getProperty(name));
+			}
+			this.propertiesSnapshot = snapshot;
+		}
+
+		private Object lookUpProperty(String name) {
+			Map<String, Object> snapshot = this.propertiesSnapshot;
+			if (snapshot != null && snapshot.containsKey(name)) {
+				return snapshot.get(name);
+			}
+			return ResolutionQueue.performOnOwner(() -> this.properties.getProperty(name));
+		}
+
+		Coordinates getCoordinates() {
+			return this.coordinates;
+		}
+
+		File getPom() {
+			return this.pom;
+		}
+
+		PropertySource getProperties() {
+			return this.properties;
+		}
+
+		/**
+		 * Returns the snapshot of the system properties that is used to build the model
+		 * from this input.
+		 * @return the system properties
+		 */
+		Properties getSystemProperties() {
+			return this.systemProperties;
+		}
+
+		/**
+		 * Returns the properties that were used while building the model from this input.
+		 * @return the used properties
+		 */
+		Map<String, String> getUsedProperties() {
+			return this.recordingProperties.getRecordedProperties();
+		}
+
+		/**
+		 * Returns the system properties that were used while building the model from this
+		 * input, either during interpolation or to determine the activation of profiles.
+		 * A system property that was used but that was not set is recorded with a
+		 * {@code null} value.
+		 * @return the used system properties
+		 */
+		Map<String, String> getUsedSystemProperties() {
+			return this.usedSystemProperties;
+		}
+
+		/**
+		 * Returns the poms, such as parents and imported boms, that were referenced while
+		 * building the model from this input. {@code null} is returned when the model
+		 * cannot be reproduced from the referenced poms and used properties alone, for
+		 * example because it depended upon a profile that is activated by a file.
+		 * @return the referenced poms or {@code null}
+		 */
+		Map<Coordinates, File> getReferencedPoms() {
+			return this.referencedPoms;
+		}
+
+	}
+
+	/**
+	 * A {@link ModelCache} for the building of a single input's model. Raw models are
+	 * independent of the properties that are used during model building so they are
+	 * shared with other inputs and with later batches of models. Everything else, such as
+	 * the dependency management from an imported bom, has been interpolated and is cached
+	 * for this input only.
+	 */
+	private static final class InputModelCache implements ModelCache {
+
+		private static final String RAW_TAG = "raw";
+
+		private final ModelCache rawModelCache;
+
+		private final ModelCache inputCache = new InMemoryModelCache();
+
+		private final Map<String, Coordinates> requestedCoordinates = new LinkedHashMap<>();
+
+		private InputModelCache(ModelCache rawModelCache) {
+			this.rawModelCache = rawModelCache;
+		}
+
+		@Override
+		public Object get(String groupId, String artifactId, String version, String tag) {
+			// The model builder checks the cache before resolving a parent or import
+			Coordinates coordinates = new Coordinates(groupId, artifactId, version);
+			this.requestedCoordinates.putIfAbsent(coordinates.toString(), coordinates);
+			return cacheFor(tag).get(groupId, artifactId, version, tag);
+		}
+
+		@Override
+		public void put(String groupId, String artifactId, String version, String tag, Object item) {
+			cacheFor(tag).put(groupId, artifactId, version, tag, item);
+		}
+
+		private ModelCache cacheFor(String tag) {
+			return RAW_TAG.equals(tag) ? this.rawModelCache : this.inputCache;
+		}
+
+	}
+
+	/**
+	 * A {@link ProfileSelector} that records the environment upon which the activation of
+	 * profiles depends in the input whose model is being built by the current thread.
+	 */
+	private static final class ActivationRecordingProfileSelector implements ProfileSelector {
+
+		private final ProfileSelector delegate;
+
+		private final ThreadLocal<ModelInput> currentInput;
+
+		private ActivationRecordingProfileSelector(ProfileSelector delegate, ThreadLocal<ModelInput> currentInput) {
+			this.delegate = delegate;
+			this.currentInput = currentInput;
+		}
+
+		@Override
+		public List<Profile> getActiveProfiles(Collection<Profile> profiles, ProfileActivationContext context,
+				ModelProblemCollector problems) {
+			ModelInput input = this.currentInput.get();
+			for (Profile profile : profiles) {
+				Activation activation = profile.getActivation();
+				if (activation != null) {
+					record(input, activation, context);
+				}
+			}
+			return this.delegate.getActiveProfiles(profiles, context, problems);
+		}
+
+		private void record(ModelInput input, Activation activation, ProfileActivationContext context) {
+			if (activation.getProperty() != null) {
+				record(input, activation.getProperty().getName(), context);
+			}
+			if (activation.getJdk() != null) {
+				record(input, "java.version", context);
+			}
+			if (activation.getOs() != null) {
+				record(input, "os.name", context);
+				record(input, "os.arch", context);
+				record(input, "os.version", context);
+			}
+			if (activation.getFile() != null) {
+				input.environmentDependent = true;
+			}
+		}
+
+		private void record(ModelInput input, String name, ProfileActivationContext context) {
+			if (name != null) {
+				String key = name.startsWith("!") ? name.substring(1) : name;
+				input.usedSystemProperties.put(key, context.getSystemProperties().get(key));
+			}
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,13 +24,19 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementSettings;
 import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.jfr.DependencyManagementEvents;
+import io.spring.gradle.dependencymanagement.internal.jfr.Recording;
 import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.maven.PersistentPomCache.CachedPom;
 import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
 import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
 import io.spring.gradle.dependencymanagement.internal.pom.Pom;
@@ -60,6 +66,18 @@ public class MavenPomResolver implements PomResolver {
 
 	private final DependencyHandler dependencyHandler;
 
+	private final SharedPomCache pomCache;
+
+	private final ModelBuildingService modelBuildingService;
+
+	private final PersistentPomCache persistentPomCache;
+
+	private final DependencyManagementSettings dependencyManagementSettings;
+
+	private final String projectPath;
+
+	private final StreamingPomReader streamingPomReader = new StreamingPomReader();
+
 	/**
 	 * Creates a new {@code MavenPomResolver}. Properties from the given {@code project}
 	 * will be used during resolution. The given {@code configurationContainer} will be
@@ -68,24 +86,73 @@ public class MavenPomResolver implements PomResolver {
 	 * @param configurationContainer the configuration container
 	 */
 	public MavenPomResolver(Project project, DependencyManagementConfigurationContainer configurationContainer) {
+		this(project, configurationContainer, new DependencyManagementSettings());
+	}
+
+	/**
+	 * Creates a new {@code MavenPomResolver}. Properties from the given {@code project}
+	 * will be used during resolution. The given {@code configurationContainer} will be
+	 * used to create configurations to resolve the poms. The given
+	 * {@code dependencyManagementSettings} control how the poms' models are built.
+	 * @param project the project
+	 * @param configurationContainer the configuration container
+	 * @param dependencyManagementSettings the dependency management settings
+	 */
+	public MavenPomResolver(Project project, DependencyManagementConfigurationContainer configurationContainer,
+			DependencyManagementSettings dependencyManagementSettings) {
 		this.configurationContainer = configurationContainer;
-		this.effectiveModelBuilder = new EffectiveModelBuilder(project, configurationContainer);
+		this.dependencyManagementSettings = dependencyManagementSettings;
+		ConfigurationModelResolver modelResolver = new ConfigurationModelResolver(project, configurationContainer);
+		this.effectiveModelBuilder = new EffectiveModelBuilder(modelResolver);
 		this.dependencyHandler = project.getDependencies();
+		this.pomCache = SharedPomCache.of(project);
+		this.modelBuildingService = ModelBuildingService.of(project);
+		this.persistentPomCache = new PersistentPomCache(PersistentPomCache.getCacheDirectory(project),
+				modelResolver, project.getGradle().getStartParameter().isRefreshDependencies());
+		this.projectPath = project.getPath();
 	}
 
 	@Override
 	public List<Pom> resolvePomsLeniently(List<PomReference> pomReferences) {
-		return createPoms(
-				createConfiguration(pomReferences).getResolvedConfiguration().getLenientConfiguration().getArtifacts(),
-				pomReferences, new MapPropertySource(Collections.emptyMap()));
+		Set<ResolvedArtifact> resolvedArtifacts = createConfiguration(pomReferences).getResolvedConfiguration()
+			.getLenientConfiguration()
+			.getArtifacts();
+		List<Pom> poms = new ArrayList<>();
+		Set<ResolvedArtifact> unstreamedArtifacts = new LinkedHashSet<>();
+		for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+			Pom pom = this.streamingPomReader.read(resolvedArtifact.getFile());
+			if (pom != null) {
+				poms.add(pom);
+			}
+			else {
+				unstreamedArtifacts.add(resolvedArtifact);
+			}
+		}
+		if (!unstreamedArtifacts.isEmpty()) {
+			List<ModelInput> inputs = createModelInputs(unstreamedArtifacts, pomReferences,
+					new MapPropertySource(Collections.emptyMap()));
+			poms.addAll(createPoms(getCachedPoms(inputs)));
+		}
+		return poms;
 	}
 
 	@Override
 	public List<Pom> resolvePoms(List<PomReference> pomReferences, PropertySource properties) {
 		List<PomReference> deduplicatedPomReferences = deduplicate(pomReferences);
-		Configuration configuration = createConfiguration(deduplicatedPomReferences);
-		ResolvedConfiguration resolvedConfiguration = configuration.getResolvedConfiguration();
-		return createPoms(resolvedConfiguration.getResolvedArtifacts(), deduplicatedPomReferences, properties);
+		Recording recording = DependencyManagementEvents.beginBomResolution(this.projectPath,
+				deduplicatedPomReferences);
+		boolean cacheHit = false;
+		try {
+			Configuration configuration = createConfiguration(deduplicatedPomReferences);
+			ResolvedConfiguration resolvedConfiguration = configuration.getResolvedConfiguration();
+			Map<ModelInput, Pom> cachedPoms = getCachedPoms(createModelInputs(
+					resolvedConfiguration.getResolvedArtifacts(), deduplicatedPomReferences, properties));
+			cacheHit = !cachedPoms.containsValue(null);
+			return createPoms(cachedPoms);
+		}
+		finally {
+			recording.commit(cacheHit);
+		}
 	}
 
 	private List<PomReference> deduplicate(List<PomReference> pomReferences) {
@@ -112,36 +179,81 @@ public class MavenPomResolver implements PomResolver {
 		return configuration;
 	}
 
-	private List<Pom> createPoms(Set<ResolvedArtifact> resolvedArtifacts, List<PomReference> pomReferences,
-			PropertySource properties) {
+	private List<ModelInput> createModelInputs(Set<ResolvedArtifact> resolvedArtifacts,
+			List<PomReference> pomReferences, PropertySource properties) {
 		Map<String, PomReference> referencesById = new HashMap<>();
 		for (PomReference pomReference : pomReferences) {
 			referencesById.put(pomReference.getCoordinates().getGroupAndArtifactId(), pomReference);
 		}
+		Properties systemProperties = this.modelBuildingService.getSystemProperties();
 		List<ModelInput> modelInputs = new ArrayList<>();
 		for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
 			ModuleVersionIdentifier id = resolvedArtifact.getModuleVersion().getId();
 			PomReference reference = referencesById.get(id.getGroup() + ":" + id.getName());
 			CompositePropertySource allProperties = new CompositePropertySource(reference.getProperties(), properties);
-			modelInputs.add(new ModelInput(resolvedArtifact.getFile(), allProperties));
+			modelInputs.add(new ModelInput(new Coordinates(id.getGroup(), id.getName(), id.getVersion()),
+					resolvedArtifact.getFile(), allProperties, systemProperties));
 		}
-		return createPoms(modelInputs);
+		return modelInputs;
 	}
 
-	private List<Pom> createPoms(List<ModelInput> inputs) {
-		List<Model> effectiveModels = this.effectiveModelBuilder.buildModels(inputs);
-		List<Pom> poms = new ArrayList<>(effectiveModels.size());
-		for (Model effectiveModel : effectiveModels) {
-			Coordinates coordinates = new Coordinates(effectiveModel.getGroupId(), effectiveModel.getArtifactId(),
-					effectiveModel.getVersion());
-			List<Dependency> managedDependencies = getManagedDependencies(effectiveModel);
-			List<Dependency> dependencies = getDependencies(effectiveModel);
-			Map<String, String> properties = asMap(effectiveModel.getProperties());
-			poms.add(new Pom(coordinates, managedDependencies, dependencies, properties));
+	private Map<ModelInput, Pom> getCachedPoms(List<ModelInput> inputs) {
+		Map<ModelInput, Pom> poms = new LinkedHashMap<>();
+		for (ModelInput input : inputs) {
+			Pom pom = this.pomCache.get(input.getCoordinates(), input.getPom(), input.getProperties());
+			if (pom == null) {
+				pom = getPersistedPom(input);
+			}
+			if (pom != null) {
+				DependencyManagementEvents.beginModelBuilding(this.projectPath, input.getCoordinates()).commit(true);
+			}
+			poms.put(input, pom);
 		}
 		return poms;
 	}
 
+	private List<Pom> createPoms(Map<ModelInput, Pom> cachedPoms) {
+		Map<ModelInput, Pom> poms = new LinkedHashMap<>(cachedPoms);
+		List<ModelInput> uncachedInputs = new ArrayList<>();
+		for (Map.Entry<ModelInput, Pom> cachedPom : cachedPoms.entrySet()) {
+			if (cachedPom.getValue() == null) {
+				uncachedInputs.add(cachedPom.getKey());
+			}
+		}
+		if (!uncachedInputs.isEmpty()) {
+			ExecutorService executor = this.dependencyManagementSettings.isParallelModelBuilding()
+					? this.modelBuildingService.getExecutor() : null;
+			Map<ModelInput, Model> effectiveModels = this.effectiveModelBuilder.buildModels(uncachedInputs, executor);
+			for (Map.Entry<ModelInput, Model> effectiveModel : effectiveModels.entrySet()) {
+				ModelInput input = effectiveModel.getKey();
+				Pom pom = createPom(effectiveModel.getValue());
+				this.pomCache.put(input.getCoordinates(), input.getPom(), input.getUsedProperties(), pom);
+				this.persistentPomCache.put(input, pom);
+				poms.put(input, pom);
+			}
+		}
+		return poms.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	private Pom getPersistedPom(ModelInput input) {
+		CachedPom cachedPom = this.persistentPomCache.get(input);
+		if (cachedPom == null) {
+			return null;
+		}
+		this.pomCache.put(input.getCoordinates(), input.getPom(), cachedPom.getProperties(), cachedPom.getPom());
+		return cachedPom.getPom();
+	}
+
+	private Pom createPom(Model effectiveModel) {
+		Coordinates coordinates = new Coordinates(effectiveModel.getGroupId(), effectiveModel.getArtifactId(),
+				effectiveModel.getVersion());
+		List<Dependency> managedDependencies = getManagedDependencies(effectiveModel);
+		List<Dependency> dependencies = getDependencies(effectiveModel);
+		Map<String, String> properties = asMap(effectiveModel.getProperties());
+		return new Pom(coordinates, Collections.unmodifiableList(managedDependencies),
+				Collections.unmodifiableList(dependencies), Collections.unmodifiableMap(properties));
+	}
+
 	private List<Dependency> getManagedDependencies(Model model) {
 		if (model.getDependencyManagement() == null || model.getDependencyManagement().getDependencies() == null) {
 			return Collections.emptyList();
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * A {@link BuildService} that provides the environment in which the effective models of
+ * poms are built for the duration of a build. The system properties are snapshotted once,
+ * when they are first needed, and the snapshot is used both to build every model and to
+ * check whether a previously built model can be reused. Every project therefore sees the
+ * same system properties, irrespective of when its poms are resolved.
+ * <p>
+ * Models that are built in parallel are built using an executor that is shared by every
+ * project in the build. It is created when first needed, has at most one thread per
+ * available processor, and is shut down when the service is closed at the end of the
+ * build.
+ *
+ * @author agent (agent@local)
+ */
+public abstract class ModelBuildingService implements BuildService<BuildServiceParameters.None>, AutoCloseable {
+
+	private volatile Properties systemProperties;
+
+	private ExecutorService executor;
+
+	/**
+	 * Returns the snapshot of the system properties that should be used to build models.
+	 * @return the system properties
+	 */
+	Properties getSystemProperties() {
+		Properties systemProperties = this.systemProperties;
+		if (systemProperties == null) {
+			synchronized (this) {
+				if (this.systemProperties == null) {
+					Properties snapshot = new Properties();
+					snapshot.putAll(System.getProperties());
+					this.systemProperties = snapshot;
+				}
+				systemProperties = this.systemProperties;
+			}
+		}
+		return systemProperties;
+	}
+
+	/**
+	 * Returns the executor that should be used to build models in parallel.
+	 * @return the executor
+	 */
+	synchronized ExecutorService getExecutor() {
+		if (this.executor == null) {
+			this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+					this::createThread);
+		}
+		return this.executor;
+	}
+
+	private Thread createThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, "dependency-management-model-builder");
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+	}
+
+	/**
+	 * Returns the {@code ModelBuildingService} for the build of which the given
+	 * {@code project} is a part, registering it if necessary.
+	 * @param project the project
+	 * @return the model building service
+	 */
+	static ModelBuildingService of(Project project) {
+		// The plugin may be loaded by more than one class loader in the same build
+		String name = ModelBuildingService.class.getName() + "_"
+				+ System.identityHashCode(ModelBuildingService.class.getClassLoader());
+		return project.getGradle()
+			.getSharedServices()
+			.registerIfAbsent(name, ModelBuildingService.class, (spec) -> {
+			})
+			.get();
+	}
+
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.gradle.dependencymanagement.internal.maven.CompactPomFormat.Input;
+import io.spring.gradle.dependencymanagement.internal.maven.CompactPomFormat.Output;
+import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.properties.RecordingPropertySource;
+import org.gradle.api.Project;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of {@link Pom Poms} that is persisted to disk so that it can be used by
+ * subsequent builds. A pom is cached in a file that is named using the hash of its
+ * coordinates and of the contents of its pom file. Each file holds one or more variants
+ * of the pom, each of which records the properties that were used to build the pom's
+ * effective model, the system properties that were used during interpolation and to
+ * activate its profiles, and the hashes of the parent and imported poms that it
+ * referenced. A variant is only used when those properties have the same values and
+ * those poms have the same contents. The variants are stored using the
+ * {@link CompactPomFormat}.
+ * <p>
+ * A file's last modified time records when it was last used. When a pom is cached, files
+ * that have not been used for {@link #MAX_AGE} milliseconds are removed, as are the least
+ * recently used files beyond the first {@link #MAX_ENTRIES}. When dependencies are being
+ * refreshed, cached poms are not used but the poms that are built in their place are
+ * cached.
+ *
+ * @author agent (agent@local)
+ */
+final class PersistentPomCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(PersistentPomCache.class);
+
+	static final int MAX_VARIANTS = 16;
+
+	/**
+	 * The maximum number of files in the cache.
+	 */
+	static final int MAX_ENTRIES = 1000;
+
+	/**
+	 * The time, in milliseconds, after which a file that has not been used is removed.
+	 */
+	static final long MAX_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final long LAST_USED_RESOLUTION = TimeUnit.DAYS.toMillis(1);
+
+	private final File directory;
+
+	private final ConfigurationModelResolver modelResolver;
+
+	private final boolean refreshDependencies;
+
+	private final Map<File, String> hashes = new ConcurrentHashMap<>();
+
+	PersistentPomCache(File directory, ConfigurationModelResolver modelResolver, boolean refreshDependencies) {
+		this.directory = directory;
+		this.modelResolver = modelResolver;
+		this.refreshDependencies = refreshDependencies;
+	}
+
+	/**
+	 * Returns the cached pom that can be used for the given {@code input}.
+	 * @param input the model input
+	 * @return the cached pom or {@code null}
+	 */
+	CachedPom get(ModelInput input) {
+		if (this.refreshDependencies) {
+			return null;
+		}
+		try {
+			File cacheFile = getCacheFile(input);
+			if (!cacheFile.isFile()) {
+				return null;
+			}
+			for (CachedPom variant : read(cacheFile)) {
+				if (RecordingPropertySource.matches(variant.properties, input.getProperties())
+						&& RecordingPropertySource.matches(variant.systemProperties,
+								input.getSystemProperties()::getProperty)
+						&& isUpToDate(variant.referencedPoms)) {
+					markUsed(cacheFile);
+					return variant;
+				}
+			}
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to read cached pom for " + input.getCoordinates(), ex);
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the given {@code pom} that was built from the given {@code input}. The pom is
+	 * only cached if the input's referenced poms are known.
+	 * @param input the model input
+	 * @param pom the pom built from the input
+	 */
+	void put(ModelInput input, Pom pom) {
+		Map<Coordinates, File> referencedPoms = input.getReferencedPoms();
+		if (referencedPoms == null) {
+			return;
+		}
+		try {
+			Map<String, String> referencedPomHashes = new LinkedHashMap<>();
+			for (Map.Entry<Coordinates, File> referencedPom : referencedPoms.entrySet()) {
+				referencedPomHashes.put(referencedPom.getKey().toString(), hash(referencedPom.getValue()));
+			}
+			File cacheFile = getCacheFile(input);
+			List<CachedPom> variants = new ArrayList<>();
+			CachedPom cachedPom = new CachedPom(input.getUsedProperties(), input.getUsedSystemProperties(),
+					referencedPomHashes, pom);
+			variants.add(cachedPom);
+			if (cacheFile.isFile()) {
+				for (CachedPom variant : read(cacheFile)) {
+					if (variants.size() < MAX_VARIANTS && !variant.hasSameEnvironment(cachedPom)) {
+						variants.add(variant);
+					}
+				}
+			}
+			write(variants, cacheFile);
+			removeUnusedEntries();
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to cache pom for " + input.getCoordinates(), ex);
+		}
+	}
+
+	private void markUsed(File cacheFile) {
+		long now = System.currentTimeMillis();
+		if (now - cacheFile.lastModified() > LAST_USED_RESOLUTION) {
+			cacheFile.setLastModified(now);
+		}
+	}
+
+	private void removeUnusedEntries() {
+		File[] cacheFiles = this.directory.listFiles((file) -> !file.getName().endsWith(".tmp"));
+		if (cacheFiles == null) {
+			return;
+		}
+		Arrays.sort(cacheFiles, Comparator.comparingLong(File::lastModified).reversed());
+		long oldest = System.currentTimeMillis() - MAX_AGE;
+		for (int i = 0; i < cacheFiles.length; i++) {
+			if (i >= MAX_ENTRIES || cacheFiles[i].lastModified() < oldest) {
+				cacheFiles[i].delete();
+			}
+		}
+	}
+
+	private boolean isUpToDate(Map<String, String> referencedPomHashes) throws IOException {
+		List<Coordinates> referencedCoordinates = new ArrayList<>();
+		for (String coordinates : referencedPomHashes.keySet()) {
+			String[] components = coordinates.split(":");
+			referencedCoordinates.add(new Coordinates(components[0], components[1], components[2]));
+		}
+		this.modelResolver.prefetch(referencedCoordinates);
+		for (Map.Entry<String, String> referencedPomHash : referencedPomHashes.entrySet()) {
+			String[] components = referencedPomHash.getKey().split(":");
+			File pom = this.modelResolver.resolvePom(components[0], components[1], components[2]);
+			if (!hash(pom).equals(referencedPomHash.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private File getCacheFile(ModelInput input) throws IOException {
+		String name = hash((input.getCoordinates() + "@" + hash(input.getPom())).getBytes(StandardCharsets.UTF_8));
+		return new File(this.directory, name);
+	}
+
+	private String hash(File file) throws IOException {
+		String hash = this.hashes.get(file);
+		if (hash == null) {
+			hash = hash(Files.readAllBytes(file.toPath()));
+			this.hashes.put(file, hash);
+		}
+		return hash;
+	}
+
+	private static String hash(byte[] bytes) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+			StringBuilder hash = new StringBuilder();
+			for (byte b : digest) {
+				hash.append(String.format("%02x", b));
+			}
+			return hash.toString();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private List<CachedPom> read(File cacheFile) throws IOException {
+		Input input = Input.of(ByteBuffer.wrap(Files.readAllBytes(cacheFile.toPath())));
+		if (input == null) {
+			return Collections.emptyList();
+		}
+		int count = input.readVarInt();
+		List<CachedPom> variants = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Map<String, String> properties = CompactPomFormat.readMap(input);
+			Map<String, String> systemProperties = CompactPomFormat.readMap(input);
+			Map<String, String> referencedPoms = CompactPomFormat.readMap(input);
+			variants.add(new CachedPom(properties, systemProperties, referencedPoms, CompactPomFormat.readPom(input)));
+		}
+		return variants;
+	}
+
+	private void write(List<CachedPom> variants, File cacheFile) throws IOException {
+		Output output = new Output();
+		output.writeVarInt(variants.size());
+		for (CachedPom variant : variants) {
+			CompactPomFormat.writeMap(variant.properties, output);
+			CompactPomFormat.writeMap(variant.systemProperties, output);
+			CompactPomFormat.writeMap(variant.referencedPoms, output);
+			CompactPomFormat.writePom(variant.pom, output);
+		}
+		this.directory.mkdirs();
+		File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", this.directory);
+		try {
+			try (OutputStream stream = new FileOutputStream(tempFile)) {
+				output.writeTo(stream);
+			}
+			move(tempFile, cacheFile);
+		}
+		finally {
+			tempFile.delete();
+		}
+	}
+
+	private void move(File source, File target) throws IOException {
+		try {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Returns the directory in which poms should be cached for the build of which the
+	 * given {@code project} is a part.
+	 * @param project the project
+	 * @return the cache directory
+	 */
+	static File getCacheDirectory(Project project) {
+		File projectCacheDir = project.getGradle().getStartParameter().getProjectCacheDir();
+		if (projectCacheDir == null) {
+			projectCacheDir = new File(project.getRootDir(), ".gradle");
+		}
+		return new File(projectCacheDir, "dependency-management/poms");
+	}
+
+	/**
+	 * A pom retrieved from the cache.
+	 */
+	static final class CachedPom {
+
+		private final Map<String, String> properties;
+
+		private final Map<String, String> systemProperties;
+
+		private final Map<String, String> referencedPoms;
+
+		private final Pom pom;
+
+		private CachedPom(Map<String, String> properties, Map<String, String> systemProperties,
+				Map<String, String> referencedPoms, Pom pom) {
+			this.properties = properties;
+			this.systemProperties = systemProperties;
+			this.referencedPoms = referencedPoms;
+			this.pom = pom;
+		}
+
+		private boolean hasSameEnvironment(CachedPom other) {
+			return this.properties.equals(other.properties) && this.systemProperties.equals(other.systemProperties);
+		}
+
+		/**
+		 * Returns the properties that were used to build the pom.
+		 * @return the properties
+		 */
+		Map<String, String> getProperties() {
+			return this.properties;
+		}
+
+		/**
+		 * Returns the pom.
+		 * @return the pom
+		 */
+		Pom getPom() {
+			return this.pom;
+		}
+
+	}
+
+}
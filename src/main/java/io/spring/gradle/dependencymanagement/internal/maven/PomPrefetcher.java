@@ -0,0 +1,290 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Dependency;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Model;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Parent;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prefetches the parent and imported poms that will be needed to build the effective
+ * models of a set of {@link ModelInput ModelInputs}. The raw models of the inputs are
+ * walked a level at a time and each level is resolved in a single batch by the
+ * {@link ConfigurationModelResolver}. Imports are only prefetched once the parent chain
+ * of the pom that declares them is known so that their coordinates can be interpolated.
+ * Coordinates that cannot be interpolated are left for the model builder to resolve.
+ * <p>
+ * The names of the placeholders in every pom that is read are collected so that the
+ * properties that model building is likely to look up are known in advance.
+ *
+ * @author agent (agent@local)
+ */
+final class PomPrefetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(PomPrefetcher.class);
+
+	private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+
+	private static final int MAX_INTERPOLATION_DEPTH = 10;
+
+	private final ConfigurationModelResolver modelResolver;
+
+	private final Set<String> placeholders = new HashSet<>();
+
+	PomPrefetcher(ConfigurationModelResolver modelResolver) {
+		this.modelResolver = modelResolver;
+	}
+
+	/**
+	 * Prefetches the parent and imported poms of the given {@code inputs}.
+	 * @param inputs the inputs
+	 * @return the names of the placeholders in the poms that were read
+	 */
+	Set<String> prefetch(List<ModelInput> inputs) {
+		Set<String> seen = new HashSet<>();
+		List<Lineage> read = new ArrayList<>();
+		for (ModelInput input : inputs) {
+			Model model = read(input.getPom());
+			if (model != null) {
+				read.add(new Lineage(model, input.getProperties()));
+			}
+		}
+		List<Lineage> lineages = new ArrayList<>();
+		List<PendingImport> imports = new ArrayList<>();
+		classify(read, lineages, imports, seen);
+		while (!lineages.isEmpty() || !imports.isEmpty()) {
+			Map<String, Coordinates> level = new LinkedHashMap<>();
+			for (Lineage lineage : lineages) {
+				Coordinates parent = lineage.getParentCoordinates();
+				level.put(parent.toString(), parent);
+			}
+			for (PendingImport pendingImport : imports) {
+				level.put(pendingImport.coordinates.toString(), pendingImport.coordinates);
+			}
+			this.modelResolver.prefetch(level.values());
+			read = new ArrayList<>();
+			for (Lineage lineage : lineages) {
+				Model parent = read(lineage.getParentCoordinates());
+				if (parent != null) {
+					lineage.models.add(parent);
+					read.add(lineage);
+				}
+			}
+			for (PendingImport pendingImport : imports) {
+				Model model = read(pendingImport.coordinates);
+				if (model != null) {
+					read.add(new Lineage(model, pendingImport.properties));
+				}
+			}
+			lineages = new ArrayList<>();
+			imports = new ArrayList<>();
+			classify(read, lineages, imports, seen);
+		}
+		return this.placeholders;
+	}
+
+	private void classify(List<Lineage> read, List<Lineage> lineages, List<PendingImport> imports, Set<String> seen) {
+		for (Lineage lineage : read) {
+			if (lineage.isComplete()) {
+				for (Coordinates coordinates : lineage.getImports()) {
+					if (seen.add(coordinates.toString())) {
+						imports.add(new PendingImport(coordinates, lineage.properties));
+					}
+				}
+			}
+			else if (lineage.getParentCoordinates() != null) {
+				lineages.add(lineage);
+			}
+		}
+	}
+
+	private Model read(Coordinates coordinates) {
+		File pom = this.modelResolver.getResolvedPom(coordinates.getGroupId(), coordinates.getArtifactId(),
+				coordinates.getVersion());
+		return (pom != null) ? read(pom) : null;
+	}
+
+	private Model read(File pom) {
+		try {
+			byte[] content = Files.readAllBytes(pom.toPath());
+			Matcher matcher = PLACEHOLDER.matcher(new String(content, StandardCharsets.UTF_8));
+			while (matcher.find()) {
+				this.placeholders.add(matcher.group(1));
+			}
+			try (InputStream input = new ByteArrayInputStream(content)) {
+				return new MavenXpp3Reader().read(input, false);
+			}
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to read raw model from " + pom, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * A pom and the ancestors from its parent chain that have been read so far.
+	 */
+	private static final class Lineage {
+
+		private final List<Model> models = new ArrayList<>();
+
+		private final PropertySource properties;
+
+		private Lineage(Model model, PropertySource properties) {
+			this.models.add(model);
+			this.properties = properties;
+		}
+
+		private Model getOldest() {
+			return this.models.get(this.models.size() - 1);
+		}
+
+		private boolean isComplete() {
+			return getOldest().getParent() == null;
+		}
+
+		/**
+		 * Returns the coordinates of the next parent in the chain or {@code null} if the
+		 * chain is complete or the parent's coordinates require interpolation.
+		 * @return the parent's coordinates or {@code null}
+		 */
+		private Coordinates getParentCoordinates() {
+			Parent parent = getOldest().getParent();
+			if (parent == null || containsPlaceholder(parent.getGroupId())
+					|| containsPlaceholder(parent.getArtifactId()) || containsPlaceholder(parent.getVersion())) {
+				return null;
+			}
+			return new Coordinates(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+		}
+
+		private List<Coordinates> getImports() {
+			Map<String, String> modelProperties = getModelProperties();
+			List<Coordinates> imports = new ArrayList<>();
+			for (Model model : this.models) {
+				if (model.getDependencyManagement() == null) {
+					continue;
+				}
+				for (Dependency dependency : model.getDependencyManagement().getDependencies()) {
+					if ("import".equals(dependency.getScope()) && "pom".equals(dependency.getType())) {
+						String groupId = interpolate(dependency.getGroupId(), modelProperties);
+						String artifactId = interpolate(dependency.getArtifactId(), modelProperties);
+						String version = interpolate(dependency.getVersion(), modelProperties);
+						if (groupId != null && artifactId != null && version != null) {
+							imports.add(new Coordinates(groupId, artifactId, version));
+						}
+					}
+				}
+			}
+			return imports;
+		}
+
+		private Map<String, String> getModelProperties() {
+			Map<String, String> properties = new HashMap<>();
+			for (int i = this.models.size() - 1; i >= 0; i--) {
+				for (String name : this.models.get(i).getProperties().stringPropertyNames()) {
+					properties.put(name, this.models.get(i).getProperties().getProperty(name));
+				}
+			}
+			Model model = this.models.get(0);
+			Parent parent = model.getParent();
+			String groupId = (model.getGroupId() != null || parent == null) ? model.getGroupId()
+					: parent.getGroupId();
+			String version = (model.getVersion() != null || parent == null) ? model.getVersion()
+					: parent.getVersion();
+			putIfNotNull(properties, "project.groupId", groupId);
+			putIfNotNull(properties, "project.artifactId", model.getArtifactId());
+			putIfNotNull(properties, "project.version", version);
+			if (parent != null) {
+				putIfNotNull(properties, "project.parent.groupId", parent.getGroupId());
+				putIfNotNull(properties, "project.parent.version", parent.getVersion());
+			}
+			return properties;
+		}
+
+		private void putIfNotNull(Map<String, String> properties, String name, String value) {
+			if (value != null) {
+				properties.put(name, value);
+			}
+		}
+
+		private String interpolate(String value, Map<String, String> modelProperties) {
+			String interpolated = value;
+			for (int depth = 0; interpolated != null && depth < MAX_INTERPOLATION_DEPTH; depth++) {
+				if (!containsPlaceholder(interpolated)) {
+					return interpolated.trim();
+				}
+				Matcher matcher = PLACEHOLDER.matcher(interpolated);
+				StringBuffer result = new StringBuffer();
+				while (matcher.find()) {
+					String replacement = getProperty(matcher.group(1), modelProperties);
+					if (replacement == null) {
+						return null;
+					}
+					matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+				}
+				matcher.appendTail(result);
+				interpolated = result.toString();
+			}
+			return null;
+		}
+
+		private String getProperty(String name, Map<String, String> modelProperties) {
+			Object value = this.properties.getProperty(name);
+			return (value != null) ? value.toString() : modelProperties.get(name);
+		}
+
+		private static boolean containsPlaceholder(String value) {
+			return value != null && value.contains("${");
+		}
+
+	}
+
+	private static final class PendingImport {
+
+		private final Coordinates coordinates;
+
+		private final PropertySource properties;
+
+		private PendingImport(Coordinates coordinates, PropertySource properties) {
+			this.coordinates = coordinates;
+			this.properties = properties;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2023 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,6 @@ import io.spring.gradle.dependencymanagement.org.apache.maven.model.interpolatio
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.interpolation.ModelInterpolator;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.path.DefaultPathTranslator;
 import io.spring.gradle.dependencymanagement.org.apache.maven.model.path.DefaultUrlNormalizer;
-import io.spring.gradle.dependencymanagement.org.codehaus.plexus.interpolation.PropertiesBasedValueSource;
 import io.spring.gradle.dependencymanagement.org.codehaus.plexus.interpolation.ValueSource;
 
 /**
@@ -44,8 +43,11 @@ class PropertiesModelInterpolator extends
 
 	private final PropertySource properties;
 
-	PropertiesModelInterpolator(PropertySource properties) {
+	private final PropertySource systemProperties;
+
+	PropertiesModelInterpolator(PropertySource properties, PropertySource systemProperties) {
 		this.properties = properties;
+		this.systemProperties = systemProperties;
 		setUrlNormalizer(new DefaultUrlNormalizer());
 		setPathTranslator(new DefaultPathTranslator());
 		setVersionPropertiesProcessor(new DefaultModelVersionProcessor());
@@ -55,7 +57,7 @@ class PropertiesModelInterpolator extends
 	public List<ValueSource> createValueSources(Model model, File projectDir, ModelBuildingRequest request,
 			ModelProblemCollector collector) {
 		PropertySourceValueSource properties = new PropertySourceValueSource(this.properties);
-		PropertiesBasedValueSource systemProperties = new PropertiesBasedValueSource(System.getProperties());
+		PropertySourceValueSource systemProperties = new PropertySourceValueSource(this.systemProperties);
 		List<ValueSource> valueSources = new ArrayList<>(Arrays.asList(properties, systemProperties));
 		valueSources.addAll(super.createValueSources(model, projectDir, request, collector));
 		return valueSources;
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.building.ModelCache;
+
+/**
+ * A bounded {@link ModelCache} for raw models that is shared across model building
+ * requests. Raw models are independent of the properties that are used during model
+ * building so a parent, such as {@code spring-boot-dependencies}, only has to be read
+ * once rather than once per batch of models. When the cache is full, the least recently
+ * used entry is evicted.
+ *
+ * @author agent (agent@local)
+ */
+final class RawModelCache implements ModelCache {
+
+	private final Map<String, Object> entries;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * Creates a new {@code RawModelCache} that will hold at most {@code maximumSize}
+	 * entries.
+	 * @param maximumSize the maximum number of entries
+	 */
+	RawModelCache(int maximumSize) {
+		this.entries = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+				if (size() > maximumSize) {
+					RawModelCache.this.evictions++;
+					return true;
+				}
+				return false;
+			}
+
+		};
+	}
+
+	@Override
+	public synchronized Object get(String groupId, String artifactId, String version, String tag) {
+		Object item = this.entries.get(key(groupId, artifactId, version, tag));
+		if (item != null) {
+			this.hits++;
+		}
+		else {
+			this.misses++;
+		}
+		return item;
+	}
+
+	@Override
+	public synchronized void put(String groupId, String artifactId, String version, String tag, Object item) {
+		this.entries.put(key(groupId, artifactId, version, tag), item);
+	}
+
+	private String key(String groupId, String artifactId, String version, String tag) {
+		return groupId + ":" + artifactId + ":" + version + ":" + tag;
+	}
+
+	synchronized int size() {
+		return this.entries.size();
+	}
+
+	synchronized long getHits() {
+		return this.hits;
+	}
+
+	synchronized long getMisses() {
+		return this.misses;
+	}
+
+	synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "size=" + this.entries.size() + ", hits=" + this.hits + ", misses=" + this.misses + ", evictions="
+				+ this.evictions;
+	}
+
+}
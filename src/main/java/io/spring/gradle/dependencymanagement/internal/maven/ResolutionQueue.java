@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A queue of work that must be performed on the thread that created the queue. Gradle
+ * only allows a configuration to be resolved by the thread that owns its project so model
+ * building that is performed on other threads uses the queue to hand the resolution of
+ * poms, and the lookup of properties that were not snapshotted, back to the owning
+ * thread.
+ * <p>
+ * Work that is {@link #bind bound} to a queue is performed with the queue bound to the
+ * thread that performs it, allowing the code that it calls to use
+ * {@link #performOnOwner} without the queue being passed to it. The queue is also bound to
+ * its owning thread while it is {@link #processUntilDone processing} queued work.
+ *
+ * @author agent (agent@local)
+ */
+final class ResolutionQueue {
+
+	private static final ThreadLocal<ResolutionQueue> boundQueue = new ThreadLocal<>();
+
+	private final Thread owner = Thread.currentThread();
+
+	private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+
+	/**
+	 * Performs the given {@code work} on the thread that owns this queue, waiting for it
+	 * to complete. When called on the owning thread, the work is performed immediately.
+	 * @param <T> the type of the work's result
+	 * @param work the work to perform
+	 * @return the result of the work
+	 */
+	<T> T perform(Supplier<T> work) {
+		if (Thread.currentThread() == this.owner) {
+			return work.get();
+		}
+		FutureTask<T> task = new FutureTask<>(work::get);
+		this.queue.add(task);
+		try {
+			return task.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for resolution", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	/**
+	 * Performs queued work until all of the given {@code futures} are done. Must be called
+	 * on the thread that owns this queue.
+	 * @param futures the futures
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	void processUntilDone(List<? extends Future<?>> futures) throws InterruptedException {
+		ResolutionQueue previous = boundQueue.get();
+		boundQueue.set(this);
+		try {
+			for (Future<?> future : futures) {
+				while (!future.isDone()) {
+					Runnable work = this.queue.poll(10, TimeUnit.MILLISECONDS);
+					if (work != null) {
+						work.run();
+					}
+				}
+			}
+		}
+		finally {
+			boundQueue.set(previous);
+		}
+	}
+
+	/**
+	 * Returns a {@link Callable} that performs the given {@code work} with this queue
+	 * bound to the thread that performs it.
+	 * @param <T> the type of the work's result
+	 * @param work the work
+	 * @return the callable
+	 */
+	<T> Callable<T> bind(Supplier<T> work) {
+		return () -> {
+			boundQueue.set(this);
+			try {
+				return work.get();
+			}
+			finally {
+				boundQueue.remove();
+			}
+		};
+	}
+
+	/**
+	 * Performs the given {@code work} on the thread that owns the queue that is bound to
+	 * the current thread. When no queue is bound to the current thread, the work is
+	 * performed immediately.
+	 * @param <T> the type of the work's result
+	 * @param work the work to perform
+	 * @return the result of the work
+	 */
+	static <T> T performOnOwner(Supplier<T> work) {
+		ResolutionQueue queue = boundQueue.get();
+		return (queue != null) ? queue.perform(work) : work.get();
+	}
+
+	/**
+	 * Returns whether a queue is bound to the current thread, either because it is
+	 * performing bound work or because it is processing a queue's work.
+	 * @return {@code true} if a queue is bound, otherwise {@code false}
+	 */
+	static boolean isBound() {
+		return boundQueue.get() != null;
+	}
+
+}
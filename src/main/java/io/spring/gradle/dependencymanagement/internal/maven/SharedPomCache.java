@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import io.spring.gradle.dependencymanagement.internal.properties.RecordingPropertySource;
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * A {@link BuildService} that caches {@link Pom Poms} for the duration of a build. A pom
+ * that is used by many projects, such as a widely imported bom, only has its effective
+ * model built once, irrespective of the number of projects that use it.
+ * <p>
+ * Cached poms are keyed by their coordinates and the file from which they were built.
+ * Each entry also holds the values of the properties that were used while building the
+ * pom's effective model. An entry is only used when the properties that are available
+ * to the requester have the same values.
+ *
+ * @author agent (agent@local)
+ */
+public abstract class SharedPomCache implements BuildService<BuildServiceParameters.None> {
+
+	private final ConcurrentMap<String, List<CachedPom>> poms = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the cached pom for the given {@code coordinates} and {@code file} that is
+	 * compatible with the given {@code properties}.
+	 * @param coordinates the coordinates of the pom
+	 * @param file the pom's file
+	 * @param properties the properties that would be used to build the pom
+	 * @return the cached pom or {@code null}
+	 */
+	Pom get(Coordinates coordinates, File file, PropertySource properties) {
+		List<CachedPom> candidates = this.poms.get(createKey(coordinates, file));
+		if (candidates != null) {
+			for (CachedPom candidate : candidates) {
+				if (RecordingPropertySource.matches(candidate.properties, properties)) {
+					return candidate.pom;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the given {@code pom} that was built from the given {@code file} using the
+	 * given {@code properties}.
+	 * @param coordinates the coordinates of the pom
+	 * @param file the pom's file
+	 * @param properties the properties used to build the pom
+	 * @param pom the pom
+	 */
+	void put(Coordinates coordinates, File file, Map<String, String> properties, Pom pom) {
+		this.poms.computeIfAbsent(createKey(coordinates, file), (key) -> new CopyOnWriteArrayList<>())
+			.add(new CachedPom(properties, pom));
+	}
+
+	private String createKey(Coordinates coordinates, File file) {
+		return coordinates + "@" + file.getAbsolutePath();
+	}
+
+	/**
+	 * Returns the {@code SharedPomCache} for the build of which the given {@code project}
+	 * is a part, registering it if necessary.
+	 * @param project the project
+	 * @return the shared pom cache
+	 */
+	static SharedPomCache of(Project project) {
+		// The plugin may be loaded by more than one class loader in the same build
+		String name = SharedPomCache.class.getName() + "_"
+				+ System.identityHashCode(SharedPomCache.class.getClassLoader());
+		return project.getGradle()
+			.getSharedServices()
+			.registerIfAbsent(name, SharedPomCache.class, (spec) -> {
+			})
+			.get();
+	}
+
+	private static final class CachedPom {
+
+		private final Map<String, String> properties;
+
+		private final Pom pom;
+
+		private CachedPom(Map<String, String> properties, Pom pom) {
+			this.properties = properties;
+			this.pom = pom;
+		}
+
+	}
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a {@link Pom} by streaming its XML rather than building its effective model. Only
+ * poms whose effective model would be the same as their raw content can be read. A pom
+ * is not read, and {@code null} is returned, if it has a parent, declares profiles,
+ * imports boms, contains property placeholders, or has dependencies that would be
+ * merged or affected by its own dependency management. Such poms require the full model
+ * builder.
+ *
+ * @author agent (agent@local)
+ */
+final class StreamingPomReader {
+
+	private static final Logger logger = LoggerFactory.getLogger(StreamingPomReader.class);
+
+	private final XMLInputFactory inputFactory;
+
+	StreamingPomReader() {
+		this.inputFactory = XMLInputFactory.newFactory();
+		this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	/**
+	 * Reads the given {@code pom}.
+	 * @param pom the pom to read
+	 * @return the pom or {@code null} if it requires the full model builder
+	 */
+	Pom read(File pom) {
+		try (InputStream input = new BufferedInputStream(new FileInputStream(pom))) {
+			XMLStreamReader reader = this.inputFactory.createXMLStreamReader(input);
+			try {
+				return read(reader);
+			}
+			finally {
+				reader.close();
+			}
+		}
+		catch (UnsupportedPomException ex) {
+			logger.debug("Pom '{}' cannot be streamed: {}", pom, ex.getMessage());
+			return null;
+		}
+		catch (Exception ex) {
+			logger.debug("Failed to stream pom '" + pom + "'", ex);
+			return null;
+		}
+	}
+
+	private Pom read(XMLStreamReader reader) throws XMLStreamException, UnsupportedPomException {
+		reader.nextTag();
+		if (!"project".equals(reader.getLocalName())) {
+			throw new UnsupportedPomException("root element is not <project>");
+		}
+		String groupId = null;
+		String artifactId = null;
+		String version = null;
+		Map<String, String> properties = new LinkedHashMap<>();
+		List<Dependency> managedDependencies = new ArrayList<>();
+		List<Dependency> dependencies = new ArrayList<>();
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			switch (reader.getLocalName()) {
+				case "parent":
+				case "profiles":
+					throw new UnsupportedPomException("<" + reader.getLocalName() + "> is not supported");
+				case "groupId":
+					groupId = readText(reader);
+					break;
+				case "artifactId":
+					artifactId = readText(reader);
+					break;
+				case "version":
+					version = readText(reader);
+					break;
+				case "properties":
+					readProperties(reader, properties);
+					break;
+				case "dependencyManagement":
+					readDependencyManagement(reader, managedDependencies);
+					break;
+				case "dependencies":
+					readDependencies(reader, dependencies, "compile");
+					break;
+				default:
+					skipElement(reader);
+			}
+		}
+		if (groupId == null || artifactId == null || version == null) {
+			throw new UnsupportedPomException("coordinates are incomplete");
+		}
+		checkDependencies(managedDependencies, dependencies);
+		return new Pom(new Coordinates(groupId, artifactId, version),
+				Collections.unmodifiableList(managedDependencies), Collections.unmodifiableList(dependencies),
+				Collections.unmodifiableMap(properties));
+	}
+
+	private void readProperties(XMLStreamReader reader, Map<String, String> properties)
+			throws XMLStreamException, UnsupportedPomException {
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			String name = reader.getLocalName();
+			properties.put(name, readText(reader));
+		}
+	}
+
+	private void readDependencyManagement(XMLStreamReader reader, List<Dependency> managedDependencies)
+			throws XMLStreamException, UnsupportedPomException {
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			if ("dependencies".equals(reader.getLocalName())) {
+				readDependencies(reader, managedDependencies, null);
+			}
+			else {
+				skipElement(reader);
+			}
+		}
+		for (Dependency managedDependency : managedDependencies) {
+			if ("import".equals(managedDependency.getScope())) {
+				throw new UnsupportedPomException("bom imports are not supported");
+			}
+		}
+	}
+
+	private void readDependencies(XMLStreamReader reader, List<Dependency> dependencies, String defaultScope)
+			throws XMLStreamException, UnsupportedPomException {
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			if ("dependency".equals(reader.getLocalName())) {
+				dependencies.add(readDependency(reader, defaultScope));
+			}
+			else {
+				skipElement(reader);
+			}
+		}
+	}
+
+	private Dependency readDependency(XMLStreamReader reader, String defaultScope)
+			throws XMLStreamException, UnsupportedPomException {
+		String groupId = null;
+		String artifactId = null;
+		String version = null;
+		String type = "jar";
+		String classifier = null;
+		String scope = defaultScope;
+		boolean optional = false;
+		Set<Exclusion> exclusions = new LinkedHashSet<>();
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			switch (reader.getLocalName()) {
+				case "groupId":
+					groupId = readText(reader);
+					break;
+				case "artifactId":
+					artifactId = readText(reader);
+					break;
+				case "version":
+					version = readText(reader);
+					break;
+				case "type":
+					type = readText(reader);
+					break;
+				case "classifier":
+					classifier = readText(reader);
+					break;
+				case "scope":
+					scope = readScope(reader, defaultScope);
+					break;
+				case "optional":
+					optional = Boolean.parseBoolean(readText(reader));
+					break;
+				case "exclusions":
+					readExclusions(reader, exclusions);
+					break;
+				default:
+					skipElement(reader);
+			}
+		}
+		if (groupId == null || artifactId == null) {
+			throw new UnsupportedPomException("dependency coordinates are incomplete");
+		}
+		return new Dependency(new Coordinates(groupId, artifactId, version), optional, type, classifier, scope,
+				exclusions);
+	}
+
+	private String readScope(XMLStreamReader reader, String defaultScope)
+			throws XMLStreamException, UnsupportedPomException {
+		String scope = readText(reader);
+		return (scope.isEmpty()) ? defaultScope : scope;
+	}
+
+	private void readExclusions(XMLStreamReader reader, Set<Exclusion> exclusions)
+			throws XMLStreamException, UnsupportedPomException {
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			if ("exclusion".equals(reader.getLocalName())) {
+				String groupId = null;
+				String artifactId = null;
+				while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+					if ("groupId".equals(reader.getLocalName())) {
+						groupId = readText(reader);
+					}
+					else if ("artifactId".equals(reader.getLocalName())) {
+						artifactId = readText(reader);
+					}
+					else {
+						skipElement(reader);
+					}
+				}
+				exclusions.add(new Exclusion(groupId, artifactId));
+			}
+			else {
+				skipElement(reader);
+			}
+		}
+	}
+
+	private void checkDependencies(List<Dependency> managedDependencies, List<Dependency> dependencies)
+			throws UnsupportedPomException {
+		Set<String> managed = new HashSet<>();
+		for (Dependency managedDependency : managedDependencies) {
+			managed.add(managementKey(managedDependency));
+		}
+		Set<String> seen = new HashSet<>();
+		for (Dependency dependency : dependencies) {
+			String key = managementKey(dependency);
+			if (managed.contains(key)) {
+				throw new UnsupportedPomException("dependencies are affected by dependency management");
+			}
+			if (!seen.add(key)) {
+				throw new UnsupportedPomException("duplicate dependencies are not supported");
+			}
+		}
+	}
+
+	private String managementKey(Dependency dependency) {
+		return dependency.getCoordinates().getGroupAndArtifactId() + ":" + dependency.getType() + ":"
+				+ dependency.getClassifier();
+	}
+
+	private String readText(XMLStreamReader reader) throws XMLStreamException, UnsupportedPomException {
+		String text = reader.getElementText().trim();
+		if (text.contains("${")) {
+			throw new UnsupportedPomException("property placeholders are not supported");
+		}
+		return text;
+	}
+
+	private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			}
+			else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Thrown when a pom cannot be read without building its effective model.
+	 */
+	private static final class UnsupportedPomException extends Exception {
+
+		private UnsupportedPomException(String message) {
+			super(message);
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,8 @@ public class Coordinates {
 
 	private final String version;
 
+	private ModuleKey moduleKey;
+
 	/**
 	 * Creates a new {@code Coordinates} with the given {@code groupId},
 	 * {@code artifactId}, and {@code version}.
@@ -67,7 +69,20 @@ public class Coordinates {
 	}
 
 	public String getGroupAndArtifactId() {
-		return String.format("%s:%s", getGroupId(), getArtifactId());
+		return getGroupId() + ":" + getArtifactId();
+	}
+
+	/**
+	 * Returns the {@link ModuleKey} for the coordinates' group ID and artifact ID.
+	 * @return the module key
+	 */
+	public ModuleKey getModuleKey() {
+		ModuleKey moduleKey = this.moduleKey;
+		if (moduleKey == null) {
+			moduleKey = ModuleKey.of(this.groupId, this.artifactId);
+			this.moduleKey = moduleKey;
+		}
+		return moduleKey;
 	}
 
 	@Override
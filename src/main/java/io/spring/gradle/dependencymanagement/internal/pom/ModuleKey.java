@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.pom;
+
+import java.util.Objects;
+
+/**
+ * The group and name of a module, used as a key on hot paths in place of a
+ * {@code group:name} string. The key's hash code is computed when it is created and a
+ * key never has to be split to recover its group or name. As with {@code group:name}
+ * strings, a {@code null} group is permitted.
+ *
+ * @author agent (agent@local)
+ */
+public final class ModuleKey {
+
+	private final String group;
+
+	private final String name;
+
+	private final int hashCode;
+
+	private ModuleKey(String group, String name) {
+		this.group = group;
+		this.name = name;
+		this.hashCode = 31 * Objects.hashCode(group) + name.hashCode();
+	}
+
+	/**
+	 * Returns the key for the module with the given {@code group} and {@code name}.
+	 * @param group the module's group
+	 * @param name the module's name
+	 * @return the key
+	 */
+	public static ModuleKey of(String group, String name) {
+		return new ModuleKey(group, name);
+	}
+
+	/**
+	 * Returns the key for the module identified by the given {@code groupAndName} of the
+	 * form {@code group:name}.
+	 * @param groupAndName the group and name of the module
+	 * @return the key
+	 */
+	public static ModuleKey parse(String groupAndName) {
+		int separator = groupAndName.indexOf(':');
+		return new ModuleKey(groupAndName.substring(0, separator), groupAndName.substring(separator + 1));
+	}
+
+	/**
+	 * Returns the module's group.
+	 * @return the group
+	 */
+	public String getGroup() {
+		return this.group;
+	}
+
+	/**
+	 * Returns the module's name.
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ModuleKey other = (ModuleKey) obj;
+		return this.hashCode == other.hashCode && Objects.equals(this.group, other.group)
+				&& this.name.equals(other.name);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return this.group + ":" + this.name;
+	}
+
+}
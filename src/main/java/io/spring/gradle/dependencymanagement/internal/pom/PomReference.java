@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,4 +67,9 @@ public final class PomReference {
 		return this.properties;
 	}
 
+	@Override
+	public String toString() {
+		return this.coordinates.toString();
+	}
+
 }
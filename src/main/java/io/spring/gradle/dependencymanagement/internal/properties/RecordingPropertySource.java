@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.properties;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link PropertySource} that records the properties that are retrieved from a
+ * delegate, including those that the delegate does not have.
+ *
+ * @author agent (agent@local)
+ */
+public class RecordingPropertySource implements PropertySource {
+
+	private final PropertySource delegate;
+
+	private final Map<String, String> recordedProperties = new LinkedHashMap<>();
+
+	/**
+	 * Creates a new {@code RecordingPropertySource} that will record the properties
+	 * retrieved from the given {@code delegate}.
+	 * @param delegate the delegate
+	 */
+	public RecordingPropertySource(PropertySource delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		Object value = this.delegate.getProperty(name);
+		this.recordedProperties.put(name, (value != null) ? value.toString() : null);
+		return value;
+	}
+
+	/**
+	 * Returns the properties that have been recorded, keyed by name. A property that was
+	 * retrieved but that the delegate did not have is recorded with a {@code null}
+	 * value.
+	 * @return the recorded properties
+	 */
+	public Map<String, String> getRecordedProperties() {
+		return Collections.unmodifiableMap(new LinkedHashMap<>(this.recordedProperties));
+	}
+
+	/**
+	 * Returns whether the given {@code source} would provide the same values as those
+	 * that are described by the given {@code recordedProperties}.
+	 * @param recordedProperties the previously recorded properties
+	 * @param source the source to check
+	 * @return {@code true} if the source provides the recorded values, otherwise
+	 * {@code false}
+	 */
+	public static boolean matches(Map<String, String> recordedProperties, PropertySource source) {
+		for (Map.Entry<String, String> entry : recordedProperties.entrySet()) {
+			Object value = source.getProperty(entry.getKey());
+			String current = (value != null) ? value.toString() : null;
+			if ((current != null) ? !current.equals(entry.getValue()) : entry.getValue() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,6 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import org.gradle.api.Project;
-import org.gradle.api.artifacts.Configuration;
 
 /**
  * {@code DependencyManagementReportRenderer} renders a report the describes a
@@ -41,12 +40,12 @@ class DependencyManagementReportRenderer {
 		this.output = writer;
 	}
 
-	void startProject(Project project) {
+	void startProject(String path, boolean rootProject, String description) {
 		this.output.println();
 		this.output.println("------------------------------------------------------------");
-		String heading = (project.getRootProject().equals(project)) ? "Root project" : "Project " + project.getPath();
-		if (project.getDescription() != null) {
-			heading += " - " + project.getDescription();
+		String heading = (rootProject) ? "Root project" : "Project " + path;
+		if (description != null) {
+			heading += " - " + description;
 		}
 		this.output.println(heading);
 		this.output.println("------------------------------------------------------------");
@@ -84,10 +83,10 @@ class DependencyManagementReportRenderer {
 		this.output.println();
 	}
 
-	void renderConfigurationManagedVersions(Map<String, String> managedVersions, Configuration configuration,
+	void renderConfigurationManagedVersions(Map<String, String> managedVersions, String configurationName,
 			Map<String, String> globalManagedVersions) {
-		renderDependencyManagementHeader(configuration.getName(),
-				"Dependency management for the " + configuration.getName() + " configuration");
+		renderDependencyManagementHeader(configurationName,
+				"Dependency management for the " + configurationName + " configuration");
 		if (managedVersions != null && !managedVersions.isEmpty()) {
 			if (!managedVersions.equals(globalManagedVersions)) {
 				renderManagedVersions(managedVersions);
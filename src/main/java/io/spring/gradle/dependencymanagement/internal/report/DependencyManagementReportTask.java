@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,26 +16,47 @@
 
 package io.spring.gradle.dependencymanagement.internal.report;
 
-import java.util.Comparator;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
 
 import io.spring.gradle.dependencymanagement.internal.DependencyManagementContainer;
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementSnapshot;
 import org.gradle.api.DefaultTask;
+import org.gradle.api.Project;
 import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.TaskAction;
 
 /**
- * Task to display the dependency management for a project.
+ * Task to display the dependency management for a project. The task captures
+ * {@link DependencyManagementSnapshot snapshots} of the project's dependency management
+ * rather than the project itself so that it is compatible with the configuration cache.
  *
  * @author Andy Wilkinson.
  */
 public class DependencyManagementReportTask extends DefaultTask {
 
-	private DependencyManagementContainer dependencyManagementContainer;
+	private final String projectPath;
 
-	private DependencyManagementReportRenderer renderer = new DependencyManagementReportRenderer();
+	private final boolean rootProject;
+
+	private final Provider<String> projectDescription;
+
+	private Provider<DependencyManagementSnapshot> globalDependencyManagement;
+
+	private Provider<Map<String, DependencyManagementSnapshot>> configurationDependencyManagement;
+
+	private transient DependencyManagementReportRenderer renderer;
+
+	/**
+	 * Creates a new {@code DependencyManagementReportTask}.
+	 */
+	public DependencyManagementReportTask() {
+		Project project = getProject();
+		this.projectPath = project.getPath();
+		this.rootProject = project.getRootProject().equals(project);
+		this.projectDescription = project.provider(project::getDescription);
+	}
 
 	void setRenderer(DependencyManagementReportRenderer renderer) {
 		this.renderer = renderer;
@@ -46,7 +67,15 @@ public class DependencyManagementReportTask extends DefaultTask {
 	 * @param dependencyManagementContainer the container
 	 */
 	public void setDependencyManagementContainer(DependencyManagementContainer dependencyManagementContainer) {
-		this.dependencyManagementContainer = dependencyManagementContainer;
+		Project project = getProject();
+		this.globalDependencyManagement = project.provider(() -> dependencyManagementContainer.getSnapshot(null));
+		this.configurationDependencyManagement = project.provider(() -> {
+			Map<String, DependencyManagementSnapshot> snapshots = new TreeMap<>();
+			for (Configuration configuration : project.getConfigurations()) {
+				snapshots.put(configuration.getName(), dependencyManagementContainer.getSnapshot(configuration));
+			}
+			return snapshots;
+		});
 	}
 
 	/**
@@ -54,17 +83,14 @@ public class DependencyManagementReportTask extends DefaultTask {
 	 */
 	@TaskAction
 	public void report() {
-		this.renderer.startProject(getProject());
-		Map<String, String> globalManagedVersions = this.dependencyManagementContainer
-			.getManagedVersionsForConfiguration(null);
-		this.renderer.renderGlobalManagedVersions(globalManagedVersions);
-		Set<Configuration> configurations = new TreeSet<>(Comparator.comparing(Configuration::getName));
-		configurations.addAll(getProject().getConfigurations());
-		for (Configuration configuration : configurations) {
-			Map<String, String> managedVersions = this.dependencyManagementContainer
-				.getManagedVersionsForConfiguration(configuration);
-			this.renderer.renderConfigurationManagedVersions(managedVersions, configuration, globalManagedVersions);
-		}
+		DependencyManagementReportRenderer renderer = (this.renderer != null) ? this.renderer
+				: new DependencyManagementReportRenderer();
+		renderer.startProject(this.projectPath, this.rootProject, this.projectDescription.getOrNull());
+		Map<String, String> globalManagedVersions = this.globalDependencyManagement.get().getManagedVersions();
+		renderer.renderGlobalManagedVersions(globalManagedVersions);
+		this.configurationDependencyManagement.get()
+			.forEach((configurationName, snapshot) -> renderer.renderConfigurationManagedVersions(
+					snapshot.getManagedVersions(), configurationName, globalManagedVersions));
 	}
 
 }
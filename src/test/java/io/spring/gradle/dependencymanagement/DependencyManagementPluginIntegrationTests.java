@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2024 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,6 +61,30 @@ class DependencyManagementPluginIntegrationTests {
 				"commons-logging-1.1.2.jar");
 	}
 
+	@Test
+	void managedVersionsCanBeAppliedAsDependencyConstraints() {
+		this.gradleBuild.runner().withArguments("resolve").build();
+		assertThat(readLines("resolved.txt")).containsOnly("spring-core-4.0.4.RELEASE.jar",
+				"commons-logging-1.1.2.jar");
+	}
+
+	@Test
+	void managedVersionsAreAppliedToACopyOfAConfiguration() {
+		this.gradleBuild.runner().withArguments("-Pconstraints=false", "resolve").build();
+		this.gradleBuild.runner().withArguments("-Pconstraints=true", "resolve").build();
+		assertThat(readLines("resolved-false.txt")).containsOnly("spring-core-4.0.4.RELEASE.jar",
+				"commons-logging-1.1.2.jar");
+		assertThat(readLines("resolved-true.txt")).containsOnly("spring-core-4.0.4.RELEASE.jar",
+				"commons-logging-1.1.2.jar");
+	}
+
+	@Test
+	void managedVersionsAppliedAsConstraintsOverrideDirectVersionsWhenNotOverriddenByDependencies() {
+		this.gradleBuild.runner().withArguments("resolve").build();
+		assertThat(readLines("resolved.txt")).containsOnly("spring-core-4.0.4.RELEASE.jar",
+				"commons-logging-1.1.2.jar");
+	}
+
 	@Test
 	void dependencyManagementCanBeDeclaredInTheBuildUsingTheNewSyntax() {
 		this.gradleBuild.runner().withArguments("managedVersions", "exclusions").build();
@@ -84,6 +108,29 @@ class DependencyManagementPluginIntegrationTests {
 				"commons-logging-1.1.3.jar");
 	}
 
+	@Test
+	void exclusionAnalysisIsOnlySharedByConfigurationsWithTheSameInputs() {
+		writeLines(Paths.get("settings.gradle"), "include ':child'");
+		writeLines(Paths.get("child", "build.gradle"));
+		BuildResult result = this.gradleBuild.runner().withArguments("resolve", "--info").build();
+		assertThat(result.getOutput())
+			.contains("with the same inputs as configuration ':bravo'",
+					"with the same inputs as configuration ':child:bravo'")
+			.doesNotContain("with the same inputs as configuration ':alpha'",
+					"with the same inputs as configuration ':charlie'",
+					"with the same inputs as configuration ':delta'",
+					"with the same inputs as configuration ':child:alpha'");
+		assertThat(readLines("resolved.txt")).containsExactly(
+				":alpha: [commons-logging-1.1.3.jar, spring-core-4.0.4.RELEASE.jar]",
+				":bravo: [commons-logging-1.1.3.jar, spring-core-4.0.4.RELEASE.jar]",
+				":charlie: [spring-core-4.0.4.RELEASE.jar]",
+				":delta: [commons-logging-1.1.3.jar, spring-core-4.0.4.RELEASE.jar]",
+				":child:alpha: [commons-logging-1.1.3.jar, spring-core-4.0.4.RELEASE.jar]",
+				":child:bravo: [commons-logging-1.1.3.jar, spring-core-4.0.4.RELEASE.jar]",
+				":child:charlie: [spring-core-4.0.4.RELEASE.jar]",
+				":child:delta: [commons-logging-1.1.3.jar, spring-core-4.0.4.RELEASE.jar]");
+	}
+
 	@Test
 	void directProjectDependenciesTakePrecedenceOverDependencyManagement() {
 		writeLines(Paths.get("settings.gradle"), "include ':child'");
@@ -184,6 +231,13 @@ class DependencyManagementPluginIntegrationTests {
 		this.gradleBuild.runner().withArguments("verify").build();
 	}
 
+	@Test
+	void managedVersionsCanBeAccessedLazily() {
+		BuildResult result = this.gradleBuild.runner().withArguments("help", "--info").build();
+		assertThat(result.getOutput()).doesNotContain("Resolving global dependency management");
+		this.gradleBuild.runner().withArguments("verify").build();
+	}
+
 	@Test
 	void propertiesImportedFromABomCanBeAccessed() {
 		this.gradleBuild.runner().withArguments("verify").build();
@@ -302,6 +356,13 @@ class DependencyManagementPluginIntegrationTests {
 				"commons-logging-1.1.3.jar");
 	}
 
+	@Test
+	void directExclusionDeclaredInABomIsHonoredWhenMavenExclusionsAreAppliedNatively() {
+		this.gradleBuild.runner().withArguments("resolve").build();
+		assertThat(readLines("resolved.txt")).containsOnly("spring-tx-4.1.2.RELEASE.jar",
+				"spring-beans-4.1.2.RELEASE.jar", "spring-core-4.1.2.RELEASE.jar");
+	}
+
 	@Test
 	void exclusionsAreAppliedCorrectlyToDependenciesThatAreReferencedMultipleTimes() {
 		this.gradleBuild.runner().withArguments("resolve").build();
@@ -530,6 +591,29 @@ class DependencyManagementPluginIntegrationTests {
 		assertThat(readLines("resolved.txt")).containsExactly("bcprov-jdk18on-1.78.1.jar");
 	}
 
+	@Test
+	void dependencyManagementReportIsCompatibleWithTheConfigurationCache() {
+		this.gradleBuild.runner().withArguments("dependencyManagement").build();
+		this.gradleBuild.runner().withArguments("dependencyManagement", "--configuration-cache").build();
+		BuildResult result = this.gradleBuild.runner()
+			.withArguments("dependencyManagement", "--configuration-cache")
+			.build();
+		assertThat(result.getOutput()).contains("Reusing configuration cache.")
+			.contains("org.springframework:spring-core 4.0.6.RELEASE");
+	}
+
+	@Test
+	void importedBomsCanBeLocked() throws IOException {
+		this.gradleBuild.runner().withArguments("lockDependencyManagement").build();
+		Path lockFile = this.gradleBuild.runner().getProjectDir().toPath().resolve("dependency-management.lockfile");
+		assertThat(Files.readAllLines(lockFile)).contains("\tbom io.spring.platform:platform-bom:1.0.1.RELEASE",
+				"\t\tmanaged org.springframework:spring-core:4.0.6.RELEASE");
+		BuildResult result = this.gradleBuild.runner().withArguments("managedVersions", "--info").build();
+		assertThat(result.getOutput())
+			.contains("Using locked boms for import of [io.spring.platform:platform-bom:1.0.1.RELEASE]");
+		assertThat(readLines("managed-versions.txt")).contains("org.springframework:spring-core -> 4.0.6.RELEASE");
+	}
+
 	@Test
 	void whenConfigurationIsNotTransitiveExclusionsAreNotCalculated() {
 		BuildResult result = this.gradleBuild.runner()
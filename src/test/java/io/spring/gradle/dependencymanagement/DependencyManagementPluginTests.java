@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.spring.gradle.dependencymanagement;
 
 import java.io.File;
+import java.util.Map;
 
 import io.spring.gradle.dependencymanagement.dsl.DependencyManagementExtension;
 import org.gradle.api.Project;
@@ -63,4 +64,22 @@ class DependencyManagementPluginTests {
 		assertThat(this.project.getTasks().findByName("dependencyManagement")).isNotNull();
 	}
 
+	@Test
+	void whenPluginIsAppliedThenDependencyManagementLockTaskIsAdded() {
+		this.project.getPlugins().apply(DependencyManagementPlugin.class);
+		assertThat(this.project.getTasks().findByName("lockDependencyManagement")).isNotNull();
+	}
+
+	@Test
+	void managedVersionsReturnedByTheExtensionAreACopy() {
+		this.project.getPlugins().apply(DependencyManagementPlugin.class);
+		DependencyManagementExtension extension = this.project.getExtensions()
+			.getByType(DependencyManagementExtension.class);
+		extension.dependencies((dependencies) -> dependencies.dependency("com.example:alpha:1.0"));
+		Map<String, String> managedVersions = extension.getManagedVersions();
+		managedVersions.put("com.example:bravo", "1.0");
+		managedVersions.remove("com.example:alpha");
+		assertThat(extension.getManagedVersions()).hasSize(1).containsEntry("com.example:alpha", "1.0");
+	}
+
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
+import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
+import io.spring.gradle.dependencymanagement.internal.properties.MapPropertySource;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DependencyManagementContainer}.
+ *
+ * @author agent (agent@local)
+ */
+class DependencyManagementContainerTests {
+
+	private final Project project = ProjectBuilder.builder().build();
+
+	private final CountingPomResolver pomResolver = new CountingPomResolver();
+
+	private final DependencyManagementContainer container = new DependencyManagementContainer(this.project,
+			this.pomResolver);
+
+	@Test
+	void importedBomsAreResolvedOnceWhenManagedVersionsAreReadConcurrently() throws Exception {
+		Configuration configuration = this.project.getConfigurations().create("alpha");
+		this.container.importBom(configuration, new Coordinates("com.example", "bom", "1.0"),
+				new MapPropertySource(Collections.emptyMap()));
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Map<String, String>>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return this.container.getManagedVersionsForConfiguration(configuration);
+				}));
+			}
+			start.countDown();
+			for (Future<Map<String, String>> result : results) {
+				assertThat(result.get()).containsEntry("com.example:alpha", "1.0");
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(this.pomResolver.resolutions).hasValue(1);
+	}
+
+	@Test
+	void dependencyManagementCanBeModifiedWhileImportedBomsAreBeingResolved() throws Exception {
+		BlockingPomResolver pomResolver = new BlockingPomResolver();
+		DependencyManagementContainer container = new DependencyManagementContainer(this.project, pomResolver);
+		Configuration configuration = this.project.getConfigurations().create("alpha");
+		container.importBom(configuration, new Coordinates("com.example", "bom", "1.0"),
+				new MapPropertySource(Collections.emptyMap()));
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Map<String, String>> managedVersions = executor
+				.submit(() -> container.getManagedVersionsForConfiguration(configuration));
+			assertThat(pomResolver.resolving.await(5, TimeUnit.SECONDS)).isTrue();
+			executor
+				.submit(() -> container.addManagedVersion(configuration, "com.example", "bravo", "2.0",
+						Collections.emptyList()))
+				.get(5, TimeUnit.SECONDS);
+			pomResolver.release.countDown();
+			assertThat(managedVersions.get(5, TimeUnit.SECONDS)).containsEntry("com.example:alpha", "1.0")
+				.containsEntry("com.example:bravo", "2.0");
+		}
+		finally {
+			pomResolver.release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<Pom> bomManagingAlpha(List<PomReference> pomReferences) {
+		Dependency alpha = new Dependency(new Coordinates("com.example", "alpha", "1.0"), Collections.emptySet());
+		return Collections.singletonList(new Pom(pomReferences.get(0).getCoordinates(),
+				Collections.singletonList(alpha), Collections.emptyList(), Collections.emptyMap()));
+	}
+
+	private static final class CountingPomResolver implements PomResolver {
+
+		private final AtomicInteger resolutions = new AtomicInteger();
+
+		@Override
+		public List<Pom> resolvePoms(List<PomReference> pomReferences, PropertySource properties) {
+			this.resolutions.incrementAndGet();
+			try {
+				Thread.sleep(50);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return bomManagingAlpha(pomReferences);
+		}
+
+		@Override
+		public List<Pom> resolvePomsLeniently(List<PomReference> pomReferences) {
+			return resolvePoms(pomReferences, null);
+		}
+
+	}
+
+	private static final class BlockingPomResolver implements PomResolver {
+
+		private final CountDownLatch resolving = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public List<Pom> resolvePoms(List<PomReference> pomReferences, PropertySource properties) {
+			this.resolving.countDown();
+			try {
+				this.release.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return bomManagingAlpha(pomReferences);
+		}
+
+		@Override
+		public List<Pom> resolvePomsLeniently(List<PomReference> pomReferences) {
+			return resolvePoms(pomReferences, null);
+		}
+
+	}
+
+}
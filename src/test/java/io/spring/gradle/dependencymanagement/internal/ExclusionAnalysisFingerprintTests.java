@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
+import io.spring.gradle.dependencymanagement.internal.pom.PomResolver;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.ModuleDependency;
+import org.gradle.api.attributes.Attribute;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ExclusionAnalysisFingerprint}.
+ *
+ * @author agent (agent@local)
+ */
+class ExclusionAnalysisFingerprintTests {
+
+	private final Project project = ProjectBuilder.builder().build();
+
+	private final DependencyManagementContainer container = new DependencyManagementContainer(this.project,
+			new NoOpPomResolver());
+
+	private final DependencyManagementSettings settings = new DependencyManagementSettings();
+
+	@Test
+	void configurationsWithTheSameInputsHaveTheSameFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		Configuration bravo = configurationWithDependency("bravo");
+		assertThat(fingerprint(alpha)).isEqualTo(fingerprint(bravo));
+	}
+
+	@Test
+	void configurationsInDifferentProjectsHaveDifferentFingerprints() {
+		Project child = ProjectBuilder.builder().withName("child").withParent(this.project).build();
+		DependencyManagementContainer childContainer = new DependencyManagementContainer(child,
+				new NoOpPomResolver());
+		Configuration alpha = configurationWithDependency("alpha");
+		Configuration childAlpha = child.getConfigurations().create("alpha");
+		child.getDependencies().add("alpha", "com.example:core:1.0");
+		assertThat(ExclusionAnalysisFingerprint.of(childAlpha, childContainer, this.settings))
+			.isNotEqualTo(fingerprint(alpha));
+	}
+
+	@Test
+	void dependencyAttributesAffectTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		Configuration bravo = configurationWithDependency("bravo");
+		((ModuleDependency) bravo.getDependencies().iterator().next())
+			.attributes((attributes) -> attributes.attribute(Attribute.of("custom", String.class), "value"));
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint(bravo));
+	}
+
+	@Test
+	void requestedCapabilitiesAffectTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		Configuration bravo = configurationWithDependency("bravo");
+		((ModuleDependency) bravo.getDependencies().iterator().next())
+			.capabilities((capabilities) -> capabilities.requireCapability("com.example:core-extra"));
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint(bravo));
+	}
+
+	@Test
+	void applyingMavenExclusionsNativelyAffectsTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		String fingerprint = fingerprint(alpha);
+		this.settings.setApplyMavenExclusionsNatively(true);
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void applyingManagedVersionsAsConstraintsAffectsTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		String fingerprint = fingerprint(alpha);
+		this.settings.setApplyManagedVersionsAsConstraints(true);
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void dependencyConstraintsAffectTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		Configuration bravo = configurationWithDependency("bravo");
+		this.project.getDependencies().getConstraints().add("bravo", "com.example:transitive:2.0");
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint(bravo));
+	}
+
+	@Test
+	void managedExclusionsAffectTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		Configuration bravo = configurationWithDependency("bravo");
+		this.container.addManagedVersion(bravo, "com.example", "core", "1.0",
+				Collections.singletonList(new Exclusion("com.example", "transitive")));
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint(bravo));
+	}
+
+	@Test
+	void repositoriesAffectTheFingerprint() {
+		Configuration alpha = configurationWithDependency("alpha");
+		String fingerprint = fingerprint(alpha);
+		this.project.getRepositories().mavenCentral();
+		assertThat(fingerprint(alpha)).isNotEqualTo(fingerprint);
+	}
+
+	private Configuration configurationWithDependency(String name) {
+		Configuration configuration = this.project.getConfigurations().create(name);
+		this.project.getDependencies().add(name, "com.example:core:1.0");
+		return configuration;
+	}
+
+	private String fingerprint(Configuration configuration) {
+		return ExclusionAnalysisFingerprint.of(configuration, this.container, this.settings);
+	}
+
+	private static final class NoOpPomResolver implements PomResolver {
+
+		@Override
+		public List<Pom> resolvePoms(List<PomReference> pomReferences, PropertySource properties) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<Pom> resolvePomsLeniently(List<PomReference> pomReferences) {
+			return Collections.emptyList();
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ExclusionMatcher}.
+ *
+ * @author agent (agent@local)
+ */
+class ExclusionMatcherTests {
+
+	@Test
+	void matcherWithNoExclusionsMatchesNothing() {
+		ExclusionMatcher matcher = ExclusionMatcher.of(Collections.emptySet());
+		assertThat(matcher.matches("com.example", "alpha")).isFalse();
+	}
+
+	@Test
+	void exactExclusionMatchesOnlyThatModule() {
+		ExclusionMatcher matcher = ExclusionMatcher.of(Arrays.asList(new Exclusion("com.example", "alpha")));
+		assertThat(matcher.matches("com.example", "alpha")).isTrue();
+		assertThat(matcher.matches("com.example", "bravo")).isFalse();
+		assertThat(matcher.matches("org.example", "alpha")).isFalse();
+	}
+
+	@Test
+	void artifactWildcardExclusionMatchesEveryModuleInTheGroup() {
+		ExclusionMatcher matcher = ExclusionMatcher.of(Arrays.asList(new Exclusion("com.example", "*")));
+		assertThat(matcher.matches("com.example", "alpha")).isTrue();
+		assertThat(matcher.matches("com.example", "bravo")).isTrue();
+		assertThat(matcher.matches("org.example", "alpha")).isFalse();
+	}
+
+	@Test
+	void groupWildcardExclusionMatchesTheArtifactInEveryGroup() {
+		ExclusionMatcher matcher = ExclusionMatcher.of(Arrays.asList(new Exclusion("*", "alpha")));
+		assertThat(matcher.matches("com.example", "alpha")).isTrue();
+		assertThat(matcher.matches("org.example", "alpha")).isTrue();
+		assertThat(matcher.matches("com.example", "bravo")).isFalse();
+	}
+
+	@Test
+	void wildcardExclusionMatchesEverything() {
+		ExclusionMatcher matcher = ExclusionMatcher.of(Arrays.asList(new Exclusion("*", "*")));
+		assertThat(matcher.matches("com.example", "alpha")).isTrue();
+		assertThat(matcher.matches(null, "bravo")).isTrue();
+	}
+
+	@Test
+	void combinedMatcherMatchesTheExclusionsOfBoth() {
+		ExclusionMatcher parent = ExclusionMatcher.of(Arrays.asList(new Exclusion("com.example", "alpha")));
+		ExclusionMatcher matcher = parent.and(Arrays.asList(new Exclusion("org.example", "*")));
+		assertThat(matcher.matches("com.example", "alpha")).isTrue();
+		assertThat(matcher.matches("org.example", "bravo")).isTrue();
+		assertThat(matcher.matches("com.example", "bravo")).isFalse();
+		assertThat(parent.matches("org.example", "bravo")).isFalse();
+	}
+
+}
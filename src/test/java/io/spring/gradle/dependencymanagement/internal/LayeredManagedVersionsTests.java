@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link LayeredManagedVersions}.
+ *
+ * @author agent (agent@local)
+ */
+class LayeredManagedVersionsTests {
+
+	private final Map<String, String> configuration = new HashMap<>();
+
+	private final Map<String, String> global = new HashMap<>();
+
+	private final LayeredManagedVersions managedVersions = new LayeredManagedVersions(
+			Arrays.asList(Collections.unmodifiableMap(this.configuration), Collections.unmodifiableMap(this.global)));
+
+	@Test
+	void earlierLayersTakePrecedenceOverLaterLayers() {
+		this.configuration.put("com.example:alpha", "2.0");
+		this.global.put("com.example:alpha", "1.0");
+		this.global.put("com.example:bravo", "1.0");
+		assertThat(this.managedVersions.get("com.example:alpha")).isEqualTo("2.0");
+		assertThat(this.managedVersions.get("com.example:bravo")).isEqualTo("1.0");
+		assertThat(this.managedVersions.get("com.example:charlie")).isNull();
+	}
+
+	@Test
+	void containsKeyConsidersEveryLayer() {
+		this.global.put("com.example:alpha", "1.0");
+		assertThat(this.managedVersions.containsKey("com.example:alpha")).isTrue();
+		assertThat(this.managedVersions.containsKey("com.example:bravo")).isFalse();
+	}
+
+	@Test
+	void isEmptyWhenEveryLayerIsEmpty() {
+		assertThat(this.managedVersions.isEmpty()).isTrue();
+		assertThat(this.managedVersions).hasSize(0);
+	}
+
+	@Test
+	void isNotEmptyWhenAnyLayerIsNotEmpty() {
+		this.global.put("com.example:alpha", "1.0");
+		assertThat(this.managedVersions.isEmpty()).isFalse();
+	}
+
+	@Test
+	void iterationMergesLayersWithEarlierLayersTakingPrecedence() {
+		this.configuration.put("com.example:alpha", "2.0");
+		this.global.put("com.example:alpha", "1.0");
+		this.global.put("com.example:bravo", "1.0");
+		Map<String, String> expected = new HashMap<>();
+		expected.put("com.example:alpha", "2.0");
+		expected.put("com.example:bravo", "1.0");
+		assertThat(this.managedVersions).hasSize(2);
+		assertThat(new HashMap<>(this.managedVersions)).isEqualTo(expected);
+		assertThat(this.managedVersions).isEqualTo(expected);
+	}
+
+	@Test
+	void viewCannotBeModified() {
+		this.global.put("com.example:alpha", "1.0");
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> this.managedVersions.put("com.example:bravo", "1.0"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> this.managedVersions.remove("com.example:alpha"));
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(this.managedVersions::clear);
+	}
+
+}
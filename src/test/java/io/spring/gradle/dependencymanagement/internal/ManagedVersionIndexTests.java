@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ManagedVersionIndex}.
+ *
+ * @author agent (agent@local)
+ */
+class ManagedVersionIndexTests {
+
+	@Test
+	void versionInAnEarlierLayerTakesPrecedence() {
+		Map<String, String> configuration = Collections.singletonMap("com.example:alpha", "1.0");
+		Map<String, String> global = new HashMap<>();
+		global.put("com.example:alpha", "2.0");
+		global.put("com.example:bravo", "2.0");
+		ManagedVersionIndex index = new ManagedVersionIndex(Arrays.asList(configuration, global));
+		assertThat(index.getVersion("com.example", "alpha")).isEqualTo("1.0");
+		assertThat(index.getVersion("com.example", "bravo")).isEqualTo("2.0");
+	}
+
+	@Test
+	void versionOfUnmanagedDependencyIsNull() {
+		ManagedVersionIndex index = new ManagedVersionIndex(
+				Collections.singletonList(Collections.singletonMap("com.example:alpha", "1.0")));
+		assertThat(index.getVersion("com.example", "bravo")).isNull();
+		assertThat(index.getVersion("org.example", "alpha")).isNull();
+	}
+
+}
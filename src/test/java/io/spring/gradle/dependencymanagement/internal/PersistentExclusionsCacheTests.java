@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.gradle.dependencymanagement.internal.pom.ModuleKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentExclusionsCache}.
+ *
+ * @author agent (agent@local)
+ */
+class PersistentExclusionsCacheTests {
+
+	@TempDir
+	private File temp;
+
+	@Test
+	void excludedDependenciesCanBeRetrievedAfterTheyHaveBeenCached() {
+		Set<ModuleKey> excludedDependencies = new HashSet<>(
+				Arrays.asList(ModuleKey.of("com.example", "alpha"), ModuleKey.of(null, "bravo")));
+		new PersistentExclusionsCache(this.temp, false).put("fingerprint", excludedDependencies);
+		assertThat(new PersistentExclusionsCache(this.temp, false).get("fingerprint")).isEqualTo(excludedDependencies);
+	}
+
+	@Test
+	void excludedDependenciesThatHaveNotBeenCachedAreNotRetrieved() {
+		assertThat(new PersistentExclusionsCache(this.temp, false).get("fingerprint")).isNull();
+	}
+
+	@Test
+	void excludedDependenciesInAnUnrecognizedFormatAreNotRetrieved() throws IOException {
+		Files.write(new File(this.temp, "fingerprint").toPath(), new byte[] { 0, 0, 0, 0 });
+		assertThat(new PersistentExclusionsCache(this.temp, false).get("fingerprint")).isNull();
+	}
+
+	@Test
+	void excludedDependenciesAreNotRetrievedButAreCachedWhenDependenciesAreBeingRefreshed() {
+		Set<ModuleKey> excludedDependencies = Collections.singleton(ModuleKey.of("com.example", "alpha"));
+		new PersistentExclusionsCache(this.temp, false).put("fingerprint", excludedDependencies);
+		PersistentExclusionsCache refreshingCache = new PersistentExclusionsCache(this.temp, true);
+		assertThat(refreshingCache.get("fingerprint")).isNull();
+		Set<ModuleKey> refreshedExcludedDependencies = Collections.singleton(ModuleKey.of("com.example", "bravo"));
+		refreshingCache.put("fingerprint", refreshedExcludedDependencies);
+		assertThat(new PersistentExclusionsCache(this.temp, false).get("fingerprint"))
+			.isEqualTo(refreshedExcludedDependencies);
+	}
+
+	@Test
+	void retrievingExcludedDependenciesRecordsThatTheyHaveBeenUsed() {
+		PersistentExclusionsCache cache = new PersistentExclusionsCache(this.temp, false);
+		cache.put("fingerprint", Collections.emptySet());
+		File cacheFile = new File(this.temp, "fingerprint");
+		long lastModified = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7);
+		cacheFile.setLastModified(lastModified);
+		assertThat(cache.get("fingerprint")).isEmpty();
+		assertThat(cacheFile.lastModified()).isGreaterThan(lastModified);
+	}
+
+	@Test
+	void excludedDependenciesThatHaveNotBeenUsedRecentlyAreRemovedWhenCaching() {
+		PersistentExclusionsCache cache = new PersistentExclusionsCache(this.temp, false);
+		cache.put("unused", Collections.emptySet());
+		cache.put("used", Collections.emptySet());
+		long now = System.currentTimeMillis();
+		new File(this.temp, "unused").setLastModified(now - PersistentExclusionsCache.MAX_AGE - 60000);
+		new File(this.temp, "used").setLastModified(now - PersistentExclusionsCache.MAX_AGE + 60000);
+		cache.put("new", Collections.emptySet());
+		assertThat(cache.get("unused")).isNull();
+		assertThat(cache.get("used")).isEmpty();
+		assertThat(cache.get("new")).isEmpty();
+	}
+
+	@Test
+	void leastRecentlyUsedExcludedDependenciesAreRemovedWhenCachingBeyondMaximumEntries() {
+		PersistentExclusionsCache cache = new PersistentExclusionsCache(this.temp, false);
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < PersistentExclusionsCache.MAX_ENTRIES; i++) {
+			cache.put("fingerprint" + i, Collections.emptySet());
+			new File(this.temp, "fingerprint" + i).setLastModified(now - TimeUnit.MINUTES.toMillis(i + 1));
+		}
+		cache.put("new", Collections.emptySet());
+		assertThat(this.temp.list()).hasSize(PersistentExclusionsCache.MAX_ENTRIES);
+		assertThat(new File(this.temp, "fingerprint" + (PersistentExclusionsCache.MAX_ENTRIES - 1))).doesNotExist();
+		assertThat(new File(this.temp, "fingerprint0")).exists();
+		assertThat(new File(this.temp, "new")).exists();
+	}
+
+}
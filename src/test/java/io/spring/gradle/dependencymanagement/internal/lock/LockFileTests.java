@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.lock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.lock.LockFile.LockedBom;
+import io.spring.gradle.dependencymanagement.internal.lock.LockFile.LockedImport;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.pom.PomReference;
+import io.spring.gradle.dependencymanagement.internal.properties.MapPropertySource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link LockFile}.
+ *
+ * @author agent (agent@local)
+ */
+class LockFileTests {
+
+	private static final Coordinates BOM = new Coordinates("com.example", "bom", "1.0");
+
+	@TempDir
+	private File temp;
+
+	@Test
+	void lockedImportCanBeFoundAfterLockFileIsWrittenAndRead() throws IOException {
+		LockFile lockFile = read(createLockFile().format());
+		List<Pom> poms = lockFile.find(references(Collections.emptyMap()),
+				new MapPropertySource(Collections.emptyMap()));
+		assertThat(poms).hasSize(1);
+		Pom pom = poms.get(0);
+		assertThat(pom.getCoordinates().toString()).isEqualTo("com.example:bom:1.0");
+		assertThat(pom.getManagedDependencies()).hasSize(1);
+		Dependency alpha = pom.getManagedDependencies().get(0);
+		assertThat(alpha.getCoordinates().toString()).isEqualTo("com.example:alpha:1.0");
+		assertThat(alpha.getExclusions()).containsExactly(new Exclusion("com.example", "bravo"));
+		assertThat(pom.getProperties()).containsEntry("alpha.version", "1.0")
+			.containsEntry("weird=name", "multi\nline\\value");
+	}
+
+	@Test
+	void lockedImportIsNotFoundWhenAUsedPropertyHasChanged() throws IOException {
+		LockFile lockFile = read(createLockFile().format());
+		assertThat(lockFile.find(references(Collections.singletonMap("alpha.version", "2.0")),
+				new MapPropertySource(Collections.emptyMap())))
+			.isNull();
+		assertThat(lockFile.find(references(Collections.emptyMap()),
+				new MapPropertySource(Collections.singletonMap("alpha.version", "2.0"))))
+			.isNull();
+	}
+
+	@Test
+	void lockedImportIsNotFoundWhenBomCoordinatesHaveChanged() throws IOException {
+		LockFile lockFile = read(createLockFile().format());
+		assertThat(lockFile.find(
+				Collections.singletonList(new PomReference(new Coordinates("com.example", "bom", "2.0"))),
+				new MapPropertySource(Collections.emptyMap())))
+			.isNull();
+	}
+
+	@Test
+	void typeScopeAndClassifierOfManagedDependenciesAreLocked() throws IOException {
+		Dependency alpha = new Dependency(new Coordinates("com.example", "alpha", "1.0"), false, "test-jar", "tests",
+				"test", Collections.emptySet());
+		Pom pom = new Pom(BOM, Collections.singletonList(alpha), Collections.emptyList(), Collections.emptyMap());
+		LockedImport lockedImport = new LockedImport(
+				Collections.singletonList(new LockedBom(BOM, Collections.emptyMap())), Collections.singletonList(pom));
+		LockFile lockFile = read(new LockFile(Collections.singletonList(lockedImport)).format());
+		List<Pom> poms = lockFile.find(references(Collections.emptyMap()),
+				new MapPropertySource(Collections.emptyMap()));
+		Dependency lockedAlpha = poms.get(0).getManagedDependencies().get(0);
+		assertThat(lockedAlpha.getType()).isEqualTo("test-jar");
+		assertThat(lockedAlpha.getClassifier()).isEqualTo("tests");
+		assertThat(lockedAlpha.getScope()).isEqualTo("test");
+	}
+
+	@Test
+	void lockFileWithMalformedExclusionCannotBeRead() {
+		assertThatIllegalStateException()
+			.isThrownBy(() -> read("format 2\nimport\n\tbom com.example:bom:1.0\n\tpom com.example:bom:1.0\n"
+					+ "\t\tmanaged com.example:alpha:1.0\n\t\t\texclusion foo\n"))
+			.withMessageStartingWith("Unexpected content on line 6");
+	}
+
+	@Test
+	void lockFileWithUnsupportedFormatCannotBeRead() {
+		assertThatIllegalStateException().isThrownBy(() -> read("format 0\n"));
+	}
+
+	private LockFile createLockFile() {
+		Dependency alpha = new Dependency(new Coordinates("com.example", "alpha", "1.0"),
+				Collections.singleton(new Exclusion("com.example", "bravo")));
+		Map<String, String> properties = new HashMap<>();
+		properties.put("alpha.version", "1.0");
+		properties.put("weird=name", "multi\nline\\value");
+		Pom pom = new Pom(BOM, Collections.singletonList(alpha), Collections.emptyList(), properties);
+		LockedImport lockedImport = new LockedImport(
+				Collections.singletonList(new LockedBom(BOM, Collections.singletonMap("alpha.version", null))),
+				Collections.singletonList(pom));
+		return new LockFile(Collections.singletonList(lockedImport));
+	}
+
+	private List<PomReference> references(Map<String, String> properties) {
+		return Collections.singletonList(new PomReference(BOM, new MapPropertySource(properties)));
+	}
+
+	private LockFile read(String contents) throws IOException {
+		File file = new File(this.temp, "dependency-management.lockfile");
+		Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+		return LockFile.read(file);
+	}
+
+}
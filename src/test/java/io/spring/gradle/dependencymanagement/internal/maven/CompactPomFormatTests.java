@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.maven.CompactPomFormat.Input;
+import io.spring.gradle.dependencymanagement.internal.maven.CompactPomFormat.Output;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompactPomFormat}.
+ *
+ * @author agent (agent@local)
+ */
+class CompactPomFormatTests {
+
+	@Test
+	void pomCanBeWrittenAndRead() throws IOException {
+		Set<Exclusion> exclusions = new LinkedHashSet<>();
+		exclusions.add(new Exclusion("com.example", "bravo"));
+		exclusions.add(new Exclusion("com.example", "charlie"));
+		Dependency alpha = new Dependency(new Coordinates("com.example", "alpha", "1.0"), true, "jar", "sources",
+				"compile", exclusions);
+		Dependency delta = new Dependency(new Coordinates("com.example", "delta", null), false, null, null, null,
+				Collections.emptySet());
+		Map<String, String> properties = new LinkedHashMap<>();
+		properties.put("alpha.version", "1.0");
+		properties.put("unicode", "é中");
+		Pom pom = new Pom(new Coordinates("com.example", "bom", "1.0"), Collections.singletonList(alpha),
+				Collections.singletonList(delta), properties);
+		Pom read = CompactPomFormat.readPom(Input.of(write(pom)));
+		assertThat(read.getCoordinates().toString()).isEqualTo("com.example:bom:1.0");
+		assertThat(read.getManagedDependencies()).hasSize(1);
+		Dependency readAlpha = read.getManagedDependencies().get(0);
+		assertThat(readAlpha.getCoordinates().toString()).isEqualTo("com.example:alpha:1.0");
+		assertThat(readAlpha.isOptional()).isTrue();
+		assertThat(readAlpha.getType()).isEqualTo("jar");
+		assertThat(readAlpha.getClassifier()).isEqualTo("sources");
+		assertThat(readAlpha.getScope()).isEqualTo("compile");
+		assertThat(readAlpha.getExclusions()).containsExactly(new Exclusion("com.example", "bravo"),
+				new Exclusion("com.example", "charlie"));
+		assertThat(read.getDependencies()).hasSize(1);
+		Dependency readDelta = read.getDependencies().get(0);
+		assertThat(readDelta.getCoordinates().getVersion()).isNull();
+		assertThat(readDelta.isOptional()).isFalse();
+		assertThat(readDelta.getType()).isEqualTo("jar");
+		assertThat(readDelta.getClassifier()).isNull();
+		assertThat(readDelta.getScope()).isNull();
+		assertThat(readDelta.getExclusions()).isEmpty();
+		assertThat(read.getProperties()).containsExactlyEntriesOf(properties);
+	}
+
+	@Test
+	void stringsThatAreRepeatedInALargeBomAreWrittenOnceAndSharedWhenRead() throws IOException {
+		List<Dependency> managedDependencies = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			managedDependencies.add(new Dependency(new Coordinates("com.example", "artifact" + i, "1.0"), false,
+					"jar", null, "compile", Collections.emptySet()));
+		}
+		Pom pom = new Pom(new Coordinates("com.example", "bom", "1.0"), managedDependencies, Collections.emptyList(),
+				Collections.emptyMap());
+		ByteBuffer buffer = write(pom);
+		assertThat(buffer.remaining()).isLessThan(2000 * 24);
+		Pom read = CompactPomFormat.readPom(Input.of(buffer));
+		assertThat(read.getManagedDependencies()).hasSize(2000);
+		Dependency first = read.getManagedDependencies().get(0);
+		Dependency last = read.getManagedDependencies().get(1999);
+		assertThat(last.getCoordinates().toString()).isEqualTo("com.example:artifact1999:1.0");
+		assertThat(last.getCoordinates().getGroupId()).isSameAs(first.getCoordinates().getGroupId());
+		assertThat(last.getScope()).isSameAs(first.getScope());
+	}
+
+	@Test
+	void inputIsNotAvailableWhenVersionDoesNotMatch() {
+		assertThat(Input.of(ByteBuffer.wrap(new byte[] { 0, 0, 0, 1 }))).isNull();
+		assertThat(Input.of(ByteBuffer.wrap(new byte[0]))).isNull();
+	}
+
+	private ByteBuffer write(Pom pom) throws IOException {
+		Output output = new Output();
+		CompactPomFormat.writePom(pom, output);
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		output.writeTo(stream);
+		return ByteBuffer.wrap(stream.toByteArray());
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConfigurationModelResolver}.
+ *
+ * @author agent (agent@local)
+ */
+class ConfigurationModelResolverTests {
+
+	@TempDir
+	private File temp;
+
+	private File repository;
+
+	private ConfigurationModelResolver modelResolver;
+
+	@BeforeEach
+	void setUp() {
+		this.repository = new File(this.temp, "repository");
+		Project project = ProjectBuilder.builder().withProjectDir(new File(this.temp, "project")).build();
+		project.getRepositories().maven((maven) -> maven.setUrl(this.repository.toURI()));
+		this.modelResolver = new ConfigurationModelResolver(project,
+				new DependencyManagementConfigurationContainer(project));
+	}
+
+	@Test
+	void prefetchResolvesEveryVersionOfAModuleWithoutConflictResolution() throws IOException {
+		File alpha1 = writePom("alpha", "1.0");
+		File alpha2 = writePom("alpha", "2.0");
+		File alpha3 = writePom("alpha", "3.0");
+		File bravo = writePom("bravo", "1.0");
+		this.modelResolver.prefetch(Arrays.asList(coordinates("alpha", "1.0"), coordinates("bravo", "1.0"),
+				coordinates("alpha", "3.0"), coordinates("alpha", "2.0")));
+		assertThat(this.modelResolver.getResolvedPom("com.example", "alpha", "1.0")).isEqualTo(alpha1);
+		assertThat(this.modelResolver.getResolvedPom("com.example", "alpha", "2.0")).isEqualTo(alpha2);
+		assertThat(this.modelResolver.getResolvedPom("com.example", "alpha", "3.0")).isEqualTo(alpha3);
+		assertThat(this.modelResolver.getResolvedPom("com.example", "bravo", "1.0")).isEqualTo(bravo);
+	}
+
+	@Test
+	void prefetchIgnoresPomsThatCannotBeResolved() throws IOException {
+		File alpha = writePom("alpha", "1.0");
+		this.modelResolver.prefetch(Arrays.asList(coordinates("alpha", "1.0"), coordinates("bravo", "1.0")));
+		assertThat(this.modelResolver.getResolvedPom("com.example", "alpha", "1.0")).isEqualTo(alpha);
+		assertThat(this.modelResolver.getResolvedPom("com.example", "bravo", "1.0")).isNull();
+	}
+
+	@Test
+	void pomThatWasPrefetchedIsNotResolvedAgain() throws IOException {
+		File alpha = writePom("alpha", "1.0");
+		this.modelResolver.prefetch(Arrays.asList(coordinates("alpha", "1.0")));
+		alpha.delete();
+		assertThat(this.modelResolver.resolvePom("com.example", "alpha", "1.0")).isNotNull();
+	}
+
+	private Coordinates coordinates(String artifactId, String version) {
+		return new Coordinates("com.example", artifactId, version);
+	}
+
+	private File writePom(String artifactId, String version) throws IOException {
+		File pom = new File(this.repository,
+				"com/example/" + artifactId + "/" + version + "/" + artifactId + "-" + version + ".pom");
+		pom.getParentFile().mkdirs();
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project>\n<modelVersion>4.0.0</modelVersion>\n"
+				+ "<groupId>com.example</groupId>\n<artifactId>" + artifactId + "</artifactId>\n<version>" + version
+				+ "</version>\n<packaging>pom</packaging>\n</project>\n";
+		Files.write(pom.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+		return pom;
+	}
+
+}
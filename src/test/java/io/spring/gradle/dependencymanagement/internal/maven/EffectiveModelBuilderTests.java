@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.properties.PropertySource;
+import io.spring.gradle.dependencymanagement.org.apache.maven.model.Model;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EffectiveModelBuilder}.
+ *
+ * @author agent (agent@local)
+ */
+class EffectiveModelBuilderTests {
+
+	private static final int BOMS = 8;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final Set<Thread> propertyLookupThreads = ConcurrentHashMap.newKeySet();
+
+	private final List<String> queuedPropertyLookups = new CopyOnWriteArrayList<>();
+
+	@TempDir
+	private File temp;
+
+	private File repository;
+
+	private EffectiveModelBuilder modelBuilder;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.repository = new File(this.temp, "repository");
+		writePom("parent", "<properties><alpha.version>1.0</alpha.version></properties>");
+		for (int i = 0; i < BOMS; i++) {
+			writePom("bom" + i, "<parent><groupId>com.example</groupId><artifactId>parent</artifactId>"
+					+ "<version>1.0</version></parent><dependencyManagement><dependencies>"
+					+ "<dependency><groupId>com.example</groupId><artifactId>alpha</artifactId>"
+					+ "<version>${alpha.version}</version></dependency>"
+					+ "<dependency><groupId>com.example</groupId><artifactId>bravo</artifactId>"
+					+ "<version>${bravo.version}</version></dependency></dependencies></dependencyManagement>");
+		}
+		Project project = ProjectBuilder.builder().withProjectDir(new File(this.temp, "project")).build();
+		project.getRepositories().maven((maven) -> maven.setUrl(this.repository.toURI()));
+		this.modelBuilder = new EffectiveModelBuilder(
+				new ConfigurationModelResolver(project, new DependencyManagementConfigurationContainer(project)));
+	}
+
+	@AfterEach
+	void shutDownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void modelsBuiltInParallelAreTheSameAsModelsBuiltSerially() {
+		Map<ModelInput, Model> serialModels = this.modelBuilder.buildModels(createInputs(), null);
+		Map<ModelInput, Model> parallelModels = this.modelBuilder.buildModels(createInputs(), this.executor);
+		assertThat(parallelModels).hasSize(BOMS);
+		List<String> serialVersions = managedVersions(serialModels);
+		assertThat(managedVersions(parallelModels)).isEqualTo(serialVersions);
+		assertThat(serialVersions).contains("bom0 alpha 1.0", "bom0 bravo 2.0");
+	}
+
+	@Test
+	void propertiesAreLookedUpOnTheCallingThreadWhenModelsAreBuiltInParallel() {
+		List<ModelInput> inputs = createInputs();
+		this.modelBuilder.buildModels(inputs, this.executor);
+		assertThat(this.propertyLookupThreads).containsExactly(Thread.currentThread());
+		for (ModelInput input : inputs) {
+			assertThat(input.getUsedProperties()).containsEntry("bravo.version", "2.0");
+		}
+	}
+
+	@Test
+	void propertiesAreSnapshottedBeforeModelsAreBuiltInParallel() {
+		List<ModelInput> inputs = createInputs();
+		this.modelBuilder.buildModels(inputs, this.executor);
+		assertThat(this.queuedPropertyLookups).isEmpty();
+		for (ModelInput input : inputs) {
+			assertThat(input.getUsedProperties()).containsEntry("alpha.version", null)
+				.containsEntry("bravo.version", "2.0");
+		}
+	}
+
+	@Test
+	void parentsThatAreResolvedWhileModelsAreBuiltInParallelAreKnownToTheResolver() {
+		List<ModelInput> inputs = createInputs();
+		this.modelBuilder.buildModels(inputs, this.executor);
+		for (ModelInput input : inputs) {
+			assertThat(input.getReferencedPoms()).hasSize(1);
+			Coordinates parent = input.getReferencedPoms().keySet().iterator().next();
+			assertThat(parent.toString()).isEqualTo("com.example:parent:1.0");
+		}
+	}
+
+	private List<ModelInput> createInputs() {
+		PropertySource properties = (name) -> {
+			this.propertyLookupThreads.add(Thread.currentThread());
+			if (ResolutionQueue.isBound()) {
+				this.queuedPropertyLookups.add(name);
+			}
+			return "bravo.version".equals(name) ? "2.0" : null;
+		};
+		List<ModelInput> inputs = new ArrayList<>();
+		for (int i = 0; i < BOMS; i++) {
+			Coordinates coordinates = new Coordinates("com.example", "bom" + i, "1.0");
+			inputs.add(new ModelInput(coordinates, pomFile("bom" + i), properties, new Properties()));
+		}
+		return inputs;
+	}
+
+	private List<String> managedVersions(Map<ModelInput, Model> models) {
+		List<String> versions = new ArrayList<>();
+		for (Model model : models.values()) {
+			model.getDependencyManagement()
+				.getDependencies()
+				.forEach((dependency) -> versions
+					.add(model.getArtifactId() + " " + dependency.getArtifactId() + " " + dependency.getVersion()));
+		}
+		return versions;
+	}
+
+	private File pomFile(String artifactId) {
+		return new File(this.repository, "com/example/" + artifactId + "/1.0/" + artifactId + "-1.0.pom");
+	}
+
+	private void writePom(String artifactId, String content) throws IOException {
+		File pom = pomFile(artifactId);
+		pom.getParentFile().mkdirs();
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project>\n<modelVersion>4.0.0</modelVersion>\n"
+				+ "<groupId>com.example</groupId>\n<artifactId>" + artifactId + "</artifactId>\n"
+				+ "<version>1.0</version>\n<packaging>pom</packaging>\n" + content + "</project>\n";
+		Files.write(pom.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.maven.PersistentPomCache.CachedPom;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.properties.MapPropertySource;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentPomCache}.
+ *
+ * @author agent (agent@local)
+ */
+class PersistentPomCacheTests {
+
+	private static final Coordinates BOM = new Coordinates("com.example", "bom", "1.0");
+
+	@TempDir
+	private File temp;
+
+	private File repository;
+
+	private File cacheDirectory;
+
+	private File bom;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.repository = new File(this.temp, "repository");
+		this.cacheDirectory = new File(this.temp, "cache");
+		writeParentPom("1.0");
+		this.bom = writePom("bom", "<parent><groupId>com.example</groupId><artifactId>parent</artifactId>"
+				+ "<version>1.0</version></parent><dependencyManagement><dependencies>"
+				+ "<dependency><groupId>com.example</groupId><artifactId>alpha</artifactId>"
+				+ "<version>${alpha.version}</version></dependency>"
+				+ "<dependency><groupId>com.example</groupId><artifactId>bravo</artifactId>"
+				+ "<version>${bravo.version}</version></dependency></dependencies></dependencyManagement>");
+	}
+
+	@Test
+	void pomCanBeRetrievedByALaterBuild() {
+		Pom pom = buildAndCache(Collections.emptyMap());
+		CachedPom cachedPom = createCache().get(createInput(Collections.emptyMap()));
+		assertThat(cachedPom).isNotNull();
+		assertThat(cachedPom.getPom().getCoordinates().toString()).isEqualTo(pom.getCoordinates().toString());
+		assertThat(cachedPom.getProperties()).containsEntry("alpha.version", null);
+	}
+
+	@Test
+	void pomIsNotRetrievedWhenAPropertyThatWasUsedToBuildItHasChanged() {
+		buildAndCache(Collections.emptyMap());
+		assertThat(createCache().get(createInput(Collections.singletonMap("alpha.version", "2.0")))).isNull();
+	}
+
+	@Test
+	void pomIsNotRetrievedWhenASystemPropertyThatWasUsedDuringInterpolationHasChanged() {
+		buildAndCache(Collections.emptyMap());
+		Properties systemProperties = new Properties();
+		systemProperties.setProperty("bravo.version", "2.0");
+		assertThat(createCache().get(createInput(Collections.emptyMap(), systemProperties))).isNull();
+	}
+
+	@Test
+	void pomIsNotRetrievedWhenAReferencedPomHasChanged() throws IOException {
+		buildAndCache(Collections.emptyMap());
+		writeParentPom("2.0");
+		assertThat(createCache().get(createInput(Collections.emptyMap()))).isNull();
+	}
+
+	@Test
+	void pomIsNotRetrievedWhenDependenciesAreBeingRefreshed() {
+		buildAndCache(Collections.emptyMap());
+		PersistentPomCache cache = new PersistentPomCache(this.cacheDirectory, createModelResolver(), true);
+		assertThat(cache.get(createInput(Collections.emptyMap()))).isNull();
+	}
+
+	@Test
+	void pomIsNotRetrievedFromACorruptCacheFile() throws IOException {
+		buildAndCache(Collections.emptyMap());
+		File[] cacheFiles = this.cacheDirectory.listFiles();
+		assertThat(cacheFiles).hasSize(1);
+		Files.write(cacheFiles[0].toPath(), new byte[] { 3, 1, 5, 1 });
+		assertThat(createCache().get(createInput(Collections.emptyMap()))).isNull();
+	}
+
+	@Test
+	void numberOfVariantsOfAPomIsLimited() {
+		for (int i = 0; i <= PersistentPomCache.MAX_VARIANTS; i++) {
+			buildAndCache(Collections.singletonMap("alpha.version", "1." + i));
+		}
+		PersistentPomCache cache = createCache();
+		assertThat(cache.get(createInput(Collections.singletonMap("alpha.version", "1.0")))).isNull();
+		assertThat(cache.get(createInput(Collections.singletonMap("alpha.version", "1.1")))).isNotNull();
+		assertThat(cache.get(createInput(
+				Collections.singletonMap("alpha.version", "1." + PersistentPomCache.MAX_VARIANTS))))
+			.isNotNull();
+	}
+
+	@Test
+	void retrievingAPomRecordsThatItHasBeenUsed() {
+		buildAndCache(Collections.emptyMap());
+		File cacheFile = this.cacheDirectory.listFiles()[0];
+		long lastModified = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7);
+		cacheFile.setLastModified(lastModified);
+		assertThat(createCache().get(createInput(Collections.emptyMap()))).isNotNull();
+		assertThat(cacheFile.lastModified()).isGreaterThan(lastModified);
+	}
+
+	@Test
+	void pomsThatHaveNotBeenUsedRecentlyAreRemovedWhenCaching() throws IOException {
+		long now = System.currentTimeMillis();
+		File unused = writeCacheFile("unused", now - PersistentPomCache.MAX_AGE - 60000);
+		File used = writeCacheFile("used", now - PersistentPomCache.MAX_AGE + 60000);
+		buildAndCache(Collections.emptyMap());
+		assertThat(unused).doesNotExist();
+		assertThat(used).exists();
+		assertThat(this.cacheDirectory.list()).hasSize(2);
+	}
+
+	@Test
+	void leastRecentlyUsedPomsAreRemovedWhenCachingBeyondMaximumEntries() throws IOException {
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < PersistentPomCache.MAX_ENTRIES; i++) {
+			writeCacheFile("pom" + i, now - TimeUnit.MINUTES.toMillis(i + 1));
+		}
+		buildAndCache(Collections.emptyMap());
+		assertThat(this.cacheDirectory.list()).hasSize(PersistentPomCache.MAX_ENTRIES);
+		assertThat(new File(this.cacheDirectory, "pom" + (PersistentPomCache.MAX_ENTRIES - 1))).doesNotExist();
+		assertThat(new File(this.cacheDirectory, "pom0")).exists();
+		assertThat(createCache().get(createInput(Collections.emptyMap()))).isNotNull();
+	}
+
+	private File writeCacheFile(String name, long lastModified) throws IOException {
+		File cacheFile = new File(this.cacheDirectory, name);
+		cacheFile.getParentFile().mkdirs();
+		Files.write(cacheFile.toPath(), new byte[0]);
+		cacheFile.setLastModified(lastModified);
+		return cacheFile;
+	}
+
+	private Pom buildAndCache(Map<String, String> properties) {
+		ConfigurationModelResolver modelResolver = createModelResolver();
+		ModelInput input = createInput(properties);
+		new EffectiveModelBuilder(modelResolver).buildModels(Collections.singletonList(input), null);
+		Pom pom = new Pom(BOM, Collections.emptyList(), Collections.emptyList(), Collections.emptyMap());
+		new PersistentPomCache(this.cacheDirectory, modelResolver, false).put(input, pom);
+		return pom;
+	}
+
+	private PersistentPomCache createCache() {
+		return new PersistentPomCache(this.cacheDirectory, createModelResolver(), false);
+	}
+
+	private ConfigurationModelResolver createModelResolver() {
+		Project project = ProjectBuilder.builder().withProjectDir(new File(this.temp, "project")).build();
+		project.getRepositories().maven((maven) -> maven.setUrl(this.repository.toURI()));
+		return new ConfigurationModelResolver(project, new DependencyManagementConfigurationContainer(project));
+	}
+
+	private ModelInput createInput(Map<String, String> properties) {
+		return createInput(properties, new Properties());
+	}
+
+	private ModelInput createInput(Map<String, String> properties, Properties systemProperties) {
+		return new ModelInput(BOM, this.bom, new MapPropertySource(properties), systemProperties);
+	}
+
+	private void writeParentPom(String alphaVersion) throws IOException {
+		writePom("parent", "<properties><alpha.version>" + alphaVersion + "</alpha.version></properties>");
+	}
+
+	private File writePom(String artifactId, String content) throws IOException {
+		File pom = new File(this.repository, "com/example/" + artifactId + "/1.0/" + artifactId + "-1.0.pom");
+		pom.getParentFile().mkdirs();
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project>\n<modelVersion>4.0.0</modelVersion>\n"
+				+ "<groupId>com.example</groupId>\n<artifactId>" + artifactId + "</artifactId>\n"
+				+ "<version>1.0</version>\n<packaging>pom</packaging>\n" + content + "</project>\n";
+		Files.write(pom.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+		return pom;
+	}
+
+}
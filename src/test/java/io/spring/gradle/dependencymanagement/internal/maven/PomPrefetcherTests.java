@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import io.spring.gradle.dependencymanagement.internal.DependencyManagementConfigurationContainer;
+import io.spring.gradle.dependencymanagement.internal.maven.EffectiveModelBuilder.ModelInput;
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.properties.MapPropertySource;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PomPrefetcher}.
+ *
+ * @author agent (agent@local)
+ */
+class PomPrefetcherTests {
+
+	@TempDir
+	private File temp;
+
+	private File repository;
+
+	private ConfigurationModelResolver modelResolver;
+
+	@BeforeEach
+	void setUp() {
+		this.repository = new File(this.temp, "repository");
+		Project project = ProjectBuilder.builder().withProjectDir(new File(this.temp, "project")).build();
+		project.getRepositories().maven((maven) -> maven.setUrl(this.repository.toURI()));
+		this.modelResolver = new ConfigurationModelResolver(project,
+				new DependencyManagementConfigurationContainer(project));
+	}
+
+	@Test
+	void parentChainIsPrefetched() throws IOException {
+		writePom("grandparent", "1.0", "");
+		writePom("parent", "1.0", parent("grandparent", "1.0"));
+		File bom = writePom("bom", "1.0", parent("parent", "1.0"));
+		prefetch(bom, Collections.emptyMap());
+		assertThat(isResolved("parent", "1.0")).isTrue();
+		assertThat(isResolved("grandparent", "1.0")).isTrue();
+	}
+
+	@Test
+	void importWithNestedPlaceholdersFromTheParentChainIsPrefetched() throws IOException {
+		writePom("imported", "2.0", "");
+		writePom("parent", "1.0", "<properties><imported.major>2</imported.major>"
+				+ "<imported.version>${imported.major}.0</imported.version></properties>");
+		File bom = writePom("bom", "1.0", parent("parent", "1.0") + imports("imported", "${imported.version}"));
+		prefetch(bom, Collections.emptyMap());
+		assertThat(isResolved("imported", "2.0")).isTrue();
+	}
+
+	@Test
+	void importThatUsesProjectCoordinatesIsPrefetched() throws IOException {
+		writePom("imported", "1.0", "");
+		File bom = writePom("bom", "1.0", imports("imported", "${project.version}"));
+		prefetch(bom, Collections.emptyMap());
+		assertThat(isResolved("imported", "1.0")).isTrue();
+	}
+
+	@Test
+	void inputPropertiesTakePrecedenceOverModelPropertiesWhenInterpolatingImports() throws IOException {
+		writePom("imported", "2.0", "");
+		writePom("imported", "3.0", "");
+		File bom = writePom("bom", "1.0", "<properties><imported.version>2.0</imported.version></properties>"
+				+ imports("imported", "${imported.version}"));
+		prefetch(bom, Collections.singletonMap("imported.version", "3.0"));
+		assertThat(isResolved("imported", "3.0")).isTrue();
+		assertThat(isResolved("imported", "2.0")).isFalse();
+	}
+
+	@Test
+	void importWithAnUnresolvablePlaceholderIsNotPrefetched() throws IOException {
+		writePom("imported", "1.0", "");
+		String dependencyManagement = dependencyManagement(importOf("other", "${missing.version}"),
+				importOf("imported", "${imported.version}"));
+		File bom = writePom("bom", "1.0", dependencyManagement);
+		prefetch(bom, Collections.singletonMap("imported.version", "1.0"));
+		assertThat(isResolved("imported", "1.0")).isTrue();
+		assertThat(isResolved("other", "${missing.version}")).isFalse();
+	}
+
+	@Test
+	void importWithASelfReferencingPlaceholderIsNotPrefetched() throws IOException {
+		File bom = writePom("bom", "1.0", "<properties><imported.version>${imported.version}</imported.version>"
+				+ "</properties>" + imports("imported", "${imported.version}"));
+		prefetch(bom, Collections.emptyMap());
+		assertThat(isResolved("imported", "${imported.version}")).isFalse();
+	}
+
+	@Test
+	void parentWithAPlaceholderInItsVersionIsNotPrefetched() throws IOException {
+		writePom("parent", "1.0", "");
+		File bom = writePom("bom", "1.0", parent("parent", "${parent.version}"));
+		prefetch(bom, Collections.singletonMap("parent.version", "1.0"));
+		assertThat(isResolved("parent", "1.0")).isFalse();
+	}
+
+	@Test
+	void missingPomsAreIgnored() throws IOException {
+		File bom = writePom("bom", "1.0", parent("parent", "1.0") + imports("imported", "1.0"));
+		prefetch(bom, Collections.emptyMap());
+		assertThat(isResolved("parent", "1.0")).isFalse();
+		assertThat(isResolved("imported", "1.0")).isFalse();
+	}
+
+	private void prefetch(File bom, Map<String, String> properties) {
+		ModelInput input = new ModelInput(new Coordinates("com.example", "bom", "1.0"), bom,
+				new MapPropertySource(properties), new Properties());
+		new PomPrefetcher(this.modelResolver).prefetch(Collections.singletonList(input));
+	}
+
+	private boolean isResolved(String artifactId, String version) {
+		return this.modelResolver.getResolvedPom("com.example", artifactId, version) != null;
+	}
+
+	private String parent(String artifactId, String version) {
+		return "<parent><groupId>com.example</groupId><artifactId>" + artifactId + "</artifactId><version>" + version
+				+ "</version></parent>";
+	}
+
+	private String imports(String artifactId, String version) {
+		return dependencyManagement(importOf(artifactId, version));
+	}
+
+	private String dependencyManagement(String... dependencies) {
+		return "<dependencyManagement><dependencies>" + String.join("", dependencies)
+				+ "</dependencies></dependencyManagement>";
+	}
+
+	private String importOf(String artifactId, String version) {
+		return "<dependency><groupId>com.example</groupId><artifactId>" + artifactId + "</artifactId><version>"
+				+ version + "</version><type>pom</type><scope>import</scope></dependency>";
+	}
+
+	private File writePom(String artifactId, String version, String content) throws IOException {
+		File pom = new File(this.repository,
+				"com/example/" + artifactId + "/" + version + "/" + artifactId + "-" + version + ".pom");
+		pom.getParentFile().mkdirs();
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project>\n<modelVersion>4.0.0</modelVersion>\n"
+				+ "<groupId>com.example</groupId>\n<artifactId>" + artifactId + "</artifactId>\n<version>" + version
+				+ "</version>\n<packaging>pom</packaging>\n" + content + "</project>\n";
+		Files.write(pom.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+		return pom;
+	}
+
+}
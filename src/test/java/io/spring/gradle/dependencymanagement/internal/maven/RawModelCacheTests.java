@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RawModelCache}.
+ *
+ * @author agent (agent@local)
+ */
+class RawModelCacheTests {
+
+	@Test
+	void hitsAndMissesAreCounted() {
+		RawModelCache cache = new RawModelCache(2);
+		Object model = new Object();
+		assertThat(cache.get("com.example", "alpha", "1.0", "raw")).isNull();
+		cache.put("com.example", "alpha", "1.0", "raw", model);
+		assertThat(cache.get("com.example", "alpha", "1.0", "raw")).isSameAs(model);
+		assertThat(cache.get("com.example", "alpha", "2.0", "raw")).isNull();
+		assertThat(cache.getHits()).isEqualTo(1);
+		assertThat(cache.getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	void whenFullLeastRecentlyUsedEntryIsEvicted() {
+		RawModelCache cache = new RawModelCache(2);
+		cache.put("com.example", "alpha", "1.0", "raw", "alpha");
+		cache.put("com.example", "bravo", "1.0", "raw", "bravo");
+		cache.get("com.example", "alpha", "1.0", "raw");
+		cache.put("com.example", "charlie", "1.0", "raw", "charlie");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictions()).isEqualTo(1);
+		assertThat(cache.get("com.example", "alpha", "1.0", "raw")).isEqualTo("alpha");
+		assertThat(cache.get("com.example", "bravo", "1.0", "raw")).isNull();
+		assertThat(cache.get("com.example", "charlie", "1.0", "raw")).isEqualTo("charlie");
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResolutionQueue}.
+ *
+ * @author agent (agent@local)
+ */
+class ResolutionQueueTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void shutDownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void workIsPerformedImmediatelyWhenCalledOnTheOwningThread() {
+		ResolutionQueue queue = new ResolutionQueue();
+		assertThat(queue.perform(() -> Thread.currentThread())).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void workFromOtherThreadsIsPerformedOnTheOwningThread() throws Exception {
+		ResolutionQueue queue = new ResolutionQueue();
+		List<Future<Thread>> futures = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			futures.add(this.executor.submit(() -> queue.perform(() -> Thread.currentThread())));
+		}
+		queue.processUntilDone(futures);
+		for (Future<Thread> future : futures) {
+			assertThat(future.get()).isSameAs(Thread.currentThread());
+		}
+	}
+
+	@Test
+	void boundWorkPerformsWorkOnTheOwningThread() throws Exception {
+		ResolutionQueue queue = new ResolutionQueue();
+		Future<Thread> future = this.executor
+			.submit(queue.bind(() -> ResolutionQueue.performOnOwner(() -> Thread.currentThread())));
+		queue.processUntilDone(Collections.singletonList(future));
+		assertThat(future.get()).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void workIsPerformedOnTheCallingThreadWhenNoQueueIsBound() throws Exception {
+		Future<Thread> future = this.executor
+			.submit(() -> ResolutionQueue.performOnOwner(() -> Thread.currentThread()));
+		assertThat(future.get()).isNotSameAs(Thread.currentThread());
+		assertThat(ResolutionQueue.isBound()).isFalse();
+	}
+
+	@Test
+	void queueIsBoundToTheOwningThreadOnlyWhileItIsProcessingWork() throws Exception {
+		ResolutionQueue queue = new ResolutionQueue();
+		Future<Boolean> future = this.executor.submit(queue.bind(() -> queue.perform(ResolutionQueue::isBound)));
+		queue.processUntilDone(Collections.singletonList(future));
+		assertThat(future.get()).isTrue();
+		assertThat(ResolutionQueue.isBound()).isFalse();
+	}
+
+	@Test
+	void failureOfWorkPerformedOnTheOwningThreadIsThrownToTheCaller() throws Exception {
+		ResolutionQueue queue = new ResolutionQueue();
+		Future<Exception> future = this.executor.submit(() -> {
+			try {
+				queue.perform(() -> {
+					throw new IllegalStateException("Resolution failed");
+				});
+				return null;
+			}
+			catch (IllegalStateException ex) {
+				return ex;
+			}
+		});
+		queue.processUntilDone(Collections.singletonList(future));
+		assertThat(future.get()).isInstanceOf(IllegalStateException.class).hasMessage("Resolution failed");
+	}
+
+}
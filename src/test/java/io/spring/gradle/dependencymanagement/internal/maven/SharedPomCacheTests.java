@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.spring.gradle.dependencymanagement.internal.pom.Coordinates;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import io.spring.gradle.dependencymanagement.internal.properties.MapPropertySource;
+import org.gradle.api.services.BuildServiceParameters;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SharedPomCache}.
+ *
+ * @author agent (agent@local)
+ */
+class SharedPomCacheTests {
+
+	private static final Coordinates BOM = new Coordinates("com.example", "bom", "1.0");
+
+	private static final File BOM_FILE = new File("bom-1.0.pom");
+
+	private final SharedPomCache cache = new SharedPomCache() {
+
+		@Override
+		public BuildServiceParameters.None getParameters() {
+			return null;
+		}
+
+	};
+
+	@Test
+	void cachedPomIsReturnedWhenRecordedPropertiesMatch() {
+		Pom pom = createPom();
+		this.cache.put(BOM, BOM_FILE, properties("alpha.version", "1.0"), pom);
+		assertThat(this.cache.get(BOM, BOM_FILE, new MapPropertySource(properties("alpha.version", "1.0"))))
+			.isSameAs(pom);
+	}
+
+	@Test
+	void cachedPomIsNotReturnedWhenARecordedPropertyHasADifferentValue() {
+		this.cache.put(BOM, BOM_FILE, properties("alpha.version", "1.0"), createPom());
+		assertThat(this.cache.get(BOM, BOM_FILE, new MapPropertySource(properties("alpha.version", "2.0"))))
+			.isNull();
+		assertThat(this.cache.get(BOM, BOM_FILE, new MapPropertySource(Collections.emptyMap()))).isNull();
+	}
+
+	@Test
+	void cachedPomIsNotReturnedWhenAPropertyThatWasNotAvailableNowHasAValue() {
+		this.cache.put(BOM, BOM_FILE, properties("alpha.version", null), createPom());
+		assertThat(this.cache.get(BOM, BOM_FILE, new MapPropertySource(properties("alpha.version", "1.0"))))
+			.isNull();
+	}
+
+	@Test
+	void cachedPomIsNotReturnedForADifferentFile() {
+		this.cache.put(BOM, BOM_FILE, Collections.emptyMap(), createPom());
+		assertThat(this.cache.get(BOM, new File("other", "bom-1.0.pom"),
+				new MapPropertySource(Collections.emptyMap())))
+			.isNull();
+	}
+
+	@Test
+	void cachedPomThatMatchesTheAvailablePropertiesIsReturned() {
+		Pom one = createPom();
+		Pom two = createPom();
+		this.cache.put(BOM, BOM_FILE, properties("alpha.version", "1.0"), one);
+		this.cache.put(BOM, BOM_FILE, properties("alpha.version", "2.0"), two);
+		assertThat(this.cache.get(BOM, BOM_FILE, new MapPropertySource(properties("alpha.version", "1.0"))))
+			.isSameAs(one);
+		assertThat(this.cache.get(BOM, BOM_FILE, new MapPropertySource(properties("alpha.version", "2.0"))))
+			.isSameAs(two);
+	}
+
+	private Map<String, String> properties(String name, String value) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(name, value);
+		return properties;
+	}
+
+	private Pom createPom() {
+		return new Pom(BOM, Collections.emptyList(), Collections.emptyList(), Collections.emptyMap());
+	}
+
+}
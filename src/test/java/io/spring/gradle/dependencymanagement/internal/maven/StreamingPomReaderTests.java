@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import io.spring.gradle.dependencymanagement.internal.Exclusion;
+import io.spring.gradle.dependencymanagement.internal.pom.Dependency;
+import io.spring.gradle.dependencymanagement.internal.pom.Pom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StreamingPomReader}.
+ *
+ * @author agent (agent@local)
+ */
+class StreamingPomReaderTests {
+
+	@TempDir
+	private File temp;
+
+	private final StreamingPomReader reader = new StreamingPomReader();
+
+	@Test
+	void pomWithDependenciesIsRead() throws IOException {
+		Pom pom = this.reader.read(writePom("<dependencies><dependency><groupId>com.example</groupId>"
+				+ "<artifactId>alpha</artifactId><version>1.0</version><exclusions><exclusion>"
+				+ "<groupId>com.example</groupId><artifactId>bravo</artifactId></exclusion></exclusions>"
+				+ "</dependency><dependency><groupId>com.example</groupId><artifactId>charlie</artifactId>"
+				+ "<version>2.0</version><scope>test</scope><optional>true</optional></dependency></dependencies>"));
+		assertThat(pom).isNotNull();
+		assertThat(pom.getCoordinates().toString()).isEqualTo("com.example:library:1.0");
+		assertThat(pom.getDependencies()).hasSize(2);
+		Dependency alpha = pom.getDependencies().get(0);
+		assertThat(alpha.getCoordinates().toString()).isEqualTo("com.example:alpha:1.0");
+		assertThat(alpha.getScope()).isEqualTo("compile");
+		assertThat(alpha.getType()).isEqualTo("jar");
+		assertThat(alpha.isOptional()).isFalse();
+		assertThat(alpha.getExclusions()).hasSize(1);
+		Exclusion exclusion = alpha.getExclusions().iterator().next();
+		assertThat(exclusion.getGroupId()).isEqualTo("com.example");
+		assertThat(exclusion.getArtifactId()).isEqualTo("bravo");
+		Dependency charlie = pom.getDependencies().get(1);
+		assertThat(charlie.getScope()).isEqualTo("test");
+		assertThat(charlie.isOptional()).isTrue();
+	}
+
+	@Test
+	void pomWithDependencyManagementIsRead() throws IOException {
+		Pom pom = this.reader.read(writePom("<dependencyManagement><dependencies><dependency>"
+				+ "<groupId>com.example</groupId><artifactId>alpha</artifactId><version>1.0</version>"
+				+ "</dependency></dependencies></dependencyManagement>"));
+		assertThat(pom).isNotNull();
+		assertThat(pom.getManagedDependencies()).hasSize(1);
+		assertThat(pom.getManagedDependencies().get(0).getScope()).isNull();
+	}
+
+	@Test
+	void pomWithPropertiesIsRead() throws IOException {
+		Pom pom = this.reader.read(writePom("<properties><alpha.version>1.0</alpha.version></properties>"));
+		assertThat(pom).isNotNull();
+		assertThat(pom.getProperties()).containsEntry("alpha.version", "1.0");
+	}
+
+	@Test
+	void pomWithParentIsNotRead() throws IOException {
+		assertThat(this.reader.read(writePom("<parent><groupId>com.example</groupId>"
+				+ "<artifactId>parent</artifactId><version>1.0</version></parent>")))
+			.isNull();
+	}
+
+	@Test
+	void pomWithProfilesIsNotRead() throws IOException {
+		assertThat(this.reader.read(writePom("<profiles><profile><id>alpha</id></profile></profiles>"))).isNull();
+	}
+
+	@Test
+	void pomWithPropertyPlaceholderInADependencyIsNotRead() throws IOException {
+		assertThat(this.reader.read(writePom("<dependencies><dependency><groupId>com.example</groupId>"
+				+ "<artifactId>alpha</artifactId><version>${alpha.version}</version></dependency></dependencies>")))
+			.isNull();
+	}
+
+	@Test
+	void pomWithBomImportIsNotRead() throws IOException {
+		assertThat(this.reader.read(writePom("<dependencyManagement><dependencies><dependency>"
+				+ "<groupId>com.example</groupId><artifactId>bom</artifactId><version>1.0</version>"
+				+ "<type>pom</type><scope>import</scope></dependency></dependencies></dependencyManagement>")))
+			.isNull();
+	}
+
+	@Test
+	void pomWithDependencyAffectedByDependencyManagementIsNotRead() throws IOException {
+		assertThat(this.reader.read(writePom("<dependencyManagement><dependencies><dependency>"
+				+ "<groupId>com.example</groupId><artifactId>alpha</artifactId><version>1.0</version>"
+				+ "</dependency></dependencies></dependencyManagement><dependencies><dependency>"
+				+ "<groupId>com.example</groupId><artifactId>alpha</artifactId></dependency></dependencies>")))
+			.isNull();
+	}
+
+	@Test
+	void malformedPomIsNotRead() throws IOException {
+		assertThat(this.reader.read(writePom("<dependencies>"))).isNull();
+	}
+
+	private File writePom(String content) throws IOException {
+		File pom = new File(this.temp, "pom.xml");
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<project><modelVersion>4.0.0</modelVersion>"
+				+ "<groupId>com.example</groupId><artifactId>library</artifactId><version>1.0</version>" + content
+				+ "</project>";
+		Files.write(pom.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+		return pom;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.gradle.dependencymanagement.internal.pom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ModuleKey}.
+ *
+ * @author agent (agent@local)
+ */
+class ModuleKeyTests {
+
+	@Test
+	void keysWithTheSameGroupAndNameAreEqual() {
+		ModuleKey one = ModuleKey.of("com.example", "alpha");
+		ModuleKey two = ModuleKey.of("com.example", "alpha");
+		assertThat(one).isEqualTo(two);
+		assertThat(one).hasSameHashCodeAs(two);
+	}
+
+	@Test
+	void keysWithDifferentGroupsOrNamesAreNotEqual() {
+		ModuleKey key = ModuleKey.of("com.example", "alpha");
+		assertThat(key).isNotEqualTo(ModuleKey.of("com.example", "bravo"));
+		assertThat(key).isNotEqualTo(ModuleKey.of("org.example", "alpha"));
+	}
+
+	@Test
+	void keyCanHaveANullGroup() {
+		ModuleKey key = ModuleKey.of(null, "alpha");
+		assertThat(key.getGroup()).isNull();
+		assertThat(key.getName()).isEqualTo("alpha");
+		assertThat(key).isEqualTo(ModuleKey.of(null, "alpha"));
+		assertThat(key).hasSameHashCodeAs(ModuleKey.of(null, "alpha"));
+		assertThat(key).isNotEqualTo(ModuleKey.of("null", "alpha"));
+		assertThat(key).isNotEqualTo(ModuleKey.of("com.example", "alpha"));
+	}
+
+	@Test
+	void keyCanBeParsedFromGroupAndName() {
+		ModuleKey key = ModuleKey.parse("com.example:alpha");
+		assertThat(key.getGroup()).isEqualTo("com.example");
+		assertThat(key.getName()).isEqualTo("alpha");
+		assertThat(key).isEqualTo(ModuleKey.of("com.example", "alpha"));
+		assertThat(key.toString()).isEqualTo("com.example:alpha");
+	}
+
+	@Test
+	void moduleKeyOfCoordinatesHasTheirGroupIdAndArtifactId() {
+		Coordinates coordinates = new Coordinates("com.example", "alpha", "1.0");
+		assertThat(coordinates.getModuleKey()).isEqualTo(ModuleKey.of("com.example", "alpha"));
+		assertThat(coordinates.getModuleKey()).isSameAs(coordinates.getModuleKey());
+		assertThat(new Coordinates(null, "alpha", "1.0").getModuleKey()).isEqualTo(ModuleKey.of(null, "alpha"));
+	}
+
+}
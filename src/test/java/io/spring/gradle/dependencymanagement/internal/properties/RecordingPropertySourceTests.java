@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.gradle.dependencymanagement.internal.properties;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RecordingPropertySource}.
+ *
+ * @author agent (agent@local)
+ */
+class RecordingPropertySourceTests {
+
+	@Test
+	void retrievedPropertiesAreRecordedIncludingThoseThatAreNotAvailable() {
+		RecordingPropertySource source = new RecordingPropertySource(
+				new MapPropertySource(Collections.singletonMap("alpha", 1)));
+		assertThat(source.getProperty("alpha")).isEqualTo(1);
+		assertThat(source.getProperty("bravo")).isNull();
+		Map<String, String> expected = new HashMap<>();
+		expected.put("alpha", "1");
+		expected.put("bravo", null);
+		assertThat(source.getRecordedProperties()).isEqualTo(expected);
+	}
+
+	@Test
+	void sourceWithTheRecordedValuesMatches() {
+		Map<String, String> recorded = new HashMap<>();
+		recorded.put("alpha", "1");
+		recorded.put("bravo", null);
+		assertThat(RecordingPropertySource.matches(recorded,
+				new MapPropertySource(Collections.singletonMap("alpha", "1"))))
+			.isTrue();
+	}
+
+	@Test
+	void sourceWithADifferentValueDoesNotMatch() {
+		assertThat(RecordingPropertySource.matches(Collections.singletonMap("alpha", "1"),
+				new MapPropertySource(Collections.singletonMap("alpha", "2"))))
+			.isFalse();
+		assertThat(RecordingPropertySource.matches(Collections.singletonMap("alpha", "1"),
+				new MapPropertySource(Collections.emptyMap())))
+			.isFalse();
+		assertThat(RecordingPropertySource.matches(Collections.singletonMap("alpha", null),
+				new MapPropertySource(Collections.singletonMap("alpha", "1"))))
+			.isFalse();
+	}
+
+}
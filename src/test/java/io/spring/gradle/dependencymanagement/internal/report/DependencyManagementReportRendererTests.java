@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2022 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,9 +27,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.gradle.api.Project;
-import org.gradle.api.artifacts.Configuration;
-import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,31 +46,21 @@ class DependencyManagementReportRendererTests {
 
 	@Test
 	void projectHeaderForRootProject() {
-		Project rootProject = ProjectBuilder.builder().build();
-		this.renderer.startProject(rootProject);
+		this.renderer.startProject(":", true, null);
 		assertThat(outputLines()).containsExactly("", "------------------------------------------------------------",
 				"Root project", "------------------------------------------------------------", "");
 	}
 
 	@Test
 	void projectHeaderForSubproject() {
-		Project subproject = ProjectBuilder.builder()
-			.withParent(ProjectBuilder.builder().build())
-			.withName("alpha")
-			.build();
-		this.renderer.startProject(subproject);
+		this.renderer.startProject(":alpha", false, null);
 		assertThat(outputLines()).containsExactly("", "------------------------------------------------------------",
 				"Project :alpha", "------------------------------------------------------------", "");
 	}
 
 	@Test
 	void projectHeaderForSubprojectWithDescription() {
-		Project subproject = ProjectBuilder.builder()
-			.withParent(ProjectBuilder.builder().build())
-			.withName("alpha")
-			.build();
-		subproject.setDescription("description of alpha project");
-		this.renderer.startProject(subproject);
+		this.renderer.startProject(":alpha", false, "description of alpha project");
 		assertThat(outputLines()).containsExactly("", "------------------------------------------------------------",
 				"Project :alpha - description of alpha project",
 				"------------------------------------------------------------", "");
@@ -98,8 +85,7 @@ class DependencyManagementReportRendererTests {
 
 	@Test
 	void configurationDependencyManagementWitNoManagedVersionsAtAll() {
-		Configuration configuration = ProjectBuilder.builder().build().getConfigurations().create("test");
-		this.renderer.renderConfigurationManagedVersions(Collections.emptyMap(), configuration, Collections.emptyMap());
+		this.renderer.renderConfigurationManagedVersions(Collections.emptyMap(), "test", Collections.emptyMap());
 		assertThat(outputLines()).containsExactly("test - Dependency management for the test configuration",
 				"No dependency management", "");
 	}
@@ -107,8 +93,7 @@ class DependencyManagementReportRendererTests {
 	@Test
 	void configurationDependencyManagementWithOnlyGlobalManagedVersions() {
 		Map<String, String> managedVersions = Collections.singletonMap("a:b", "1.0");
-		Configuration configuration = ProjectBuilder.builder().build().getConfigurations().create("test");
-		this.renderer.renderConfigurationManagedVersions(managedVersions, configuration, managedVersions);
+		this.renderer.renderConfigurationManagedVersions(managedVersions, "test", managedVersions);
 		assertThat(outputLines()).containsExactly("test - Dependency management for the test configuration",
 				"No configuration-specific dependency management", "");
 	}
@@ -118,8 +103,7 @@ class DependencyManagementReportRendererTests {
 		Map<String, String> managedVersions = new HashMap<>();
 		managedVersions.put("com.example:bravo", "1.0.0");
 		managedVersions.put("com.example:alpha", "1.2.3");
-		Configuration configuration = ProjectBuilder.builder().build().getConfigurations().create("test");
-		this.renderer.renderConfigurationManagedVersions(managedVersions, configuration, Collections.emptyMap());
+		this.renderer.renderConfigurationManagedVersions(managedVersions, "test", Collections.emptyMap());
 		assertThat(outputLines()).containsExactly("test - Dependency management for the test configuration",
 				"	com.example:alpha 1.2.3", "	com.example:bravo 1.0.0", "");
 	}